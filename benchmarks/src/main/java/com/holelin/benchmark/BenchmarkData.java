@@ -0,0 +1,121 @@
+package com.holelin.benchmark;
+
+import com.holelin.util.FileOperation;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * ClassName: BenchmarkData
+ * 基准测试数据生成
+ * -- 固定随机种子,保证不同实现、不同fork之间的输入一致
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public final class BenchmarkData {
+    /**
+     * 随机种子
+     */
+    public static final long SEED = 0x5DEECE66DL;
+    /**
+     * 单词文本的位置,可通过-Dbenchmark.words指定
+     */
+    private static final String[] WORDS_PATHS = {
+            System.getProperty("benchmark.words", "src/res/Pride-and-prejudice.txt"),
+            "../src/res/Pride-and-prejudice.txt"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 生成指定分布的int数组
+     *
+     * @param size         数组长度
+     * @param distribution 分布: random(均匀随机), sorted(升序), reversed(降序),
+     *                     sawtooth(长度为1000的升序分段), fewDistinct(只有16个不同的值)
+     * @return 数组
+     */
+    public static int[] ints(int size, String distribution) {
+        Random random = new Random(SEED);
+        int[] arr = new int[size];
+        switch (distribution) {
+            case "random":
+                for (int i = 0; i < size; i++) {
+                    arr[i] = random.nextInt();
+                }
+                break;
+            case "sorted":
+                for (int i = 0; i < size; i++) {
+                    arr[i] = i;
+                }
+                break;
+            case "reversed":
+                for (int i = 0; i < size; i++) {
+                    arr[i] = size - i;
+                }
+                break;
+            case "sawtooth":
+                for (int i = 0; i < size; i++) {
+                    arr[i] = i % 1000;
+                }
+                break;
+            case "fewDistinct":
+                for (int i = 0; i < size; i++) {
+                    arr[i] = random.nextInt(16);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        }
+        return arr;
+    }
+
+    /**
+     * 生成size个字符串键
+     *
+     * @param size         键的个数
+     * @param distribution 分布: text(小说中的单词,按原文顺序循环取用),
+     *                     random(从size/16个不同的随机整数字符串中均匀选取,重复率与小说相近)
+     * @return 键数组
+     */
+    public static String[] words(int size, String distribution) {
+        String[] keys = new String[size];
+        if ("text".equals(distribution)) {
+            ArrayList<String> words = readWords();
+            for (int i = 0; i < size; i++) {
+                keys[i] = words.get(i % words.size());
+            }
+        } else if ("random".equals(distribution)) {
+            Random random = new Random(SEED);
+            String[] distinct = new String[Math.max(1, size / 16)];
+            for (int i = 0; i < distinct.length; i++) {
+                distinct[i] = Integer.toString(random.nextInt());
+            }
+            for (int i = 0; i < size; i++) {
+                keys[i] = distinct[random.nextInt(distinct.length)];
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        }
+        return keys;
+    }
+
+    /**
+     * 读取小说文本中的单词
+     *
+     * @return 单词列表
+     */
+    public static ArrayList<String> readWords() {
+        for (String path : WORDS_PATHS) {
+            ArrayList<String> words = new ArrayList<>();
+            if (new File(path).exists() && FileOperation.readFile(path, words) && !words.isEmpty()) {
+                return words;
+            }
+        }
+        throw new IllegalStateException("Pride-and-prejudice.txt not found, set -Dbenchmark.words=<path>");
+    }
+}
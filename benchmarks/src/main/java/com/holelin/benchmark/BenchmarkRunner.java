@@ -0,0 +1,31 @@
+package com.holelin.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ClassName: BenchmarkRunner
+ * 基准测试入口
+ * -- 接受与org.openjdk.jmh.Main相同的命令行参数
+ * -- 默认附带GC profiler,输出每秒操作数的同时输出分配速率(gc.alloc.rate.norm)
+ * <p>
+ * 例: java -jar target/benchmarks.jar SortBenchmark -p size=1000000
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,63 @@
+package com.holelin.heap;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: DaryHeapBenchmark
+ * 不同孩子个数d的MaxHeap对比
+ * -- mixed: 堆中保持size个元素,每次操作为一次extractMax加一次add
+ * -- 50000000个元素需要约2GB堆内存
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class DaryHeapBenchmark {
+	@Param({"2", "4", "8"})
+	private int d;
+
+	@Param({"1000", "1000000", "50000000"})
+	private int size;
+
+	private Integer[] values;
+
+	private MaxHeap<Integer> heap;
+	private int cursor;
+
+	@Setup
+	public void setup() {
+		int[] data = BenchmarkData.ints(size, "random");
+		values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = data[i];
+		}
+		heap = new MaxHeap<>(values.clone(), d);
+	}
+
+	@Benchmark
+	public Integer mixed() {
+		Integer ret = heap.extractMax();
+		heap.add(values[cursor]);
+		cursor = cursor + 1 == size ? 0 : cursor + 1;
+		return ret;
+	}
+}
@@ -0,0 +1,87 @@
+package com.holelin.heap;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: HeapBenchmark
+ * 堆基准测试,替代MaxHeapTest中的计时
+ * -- addThenExtract: 逐个添加size个元素再全部取出
+ * -- heapifyThenExtract: 通过Heapify构造堆再全部取出
+ * -- replace: 在大小为size的堆上执行replace,每次操作为一次replace
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeapBenchmark {
+	@Param({"1000", "1000000"})
+	private int size;
+
+	@Param({"random", "sorted", "reversed"})
+	private String distribution;
+
+	private Integer[] values;
+
+	private MaxHeap<Integer> heap;
+	private int cursor;
+
+	@Setup
+	public void setup() {
+		int[] data = BenchmarkData.ints(size, distribution);
+		values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = data[i];
+		}
+		heap = new MaxHeap<>(values.clone());
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void addThenExtract(Blackhole bh) {
+		MaxHeap<Integer> h = new MaxHeap<>();
+		for (Integer v : values) {
+			h.add(v);
+		}
+		while (!h.isEmpty()) {
+			bh.consume(h.extractMax());
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void heapifyThenExtract(Blackhole bh) {
+		MaxHeap<Integer> h = new MaxHeap<>(values.clone());
+		while (!h.isEmpty()) {
+			bh.consume(h.extractMax());
+		}
+	}
+
+	@Benchmark
+	public Integer replace() {
+		Integer ret = heap.replace(values[cursor]);
+		cursor = cursor + 1 == size ? 0 : cursor + 1;
+		return ret;
+	}
+}
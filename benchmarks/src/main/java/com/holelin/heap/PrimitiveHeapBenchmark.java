@@ -0,0 +1,99 @@
+package com.holelin.heap;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: PrimitiveHeapBenchmark
+ * 大量long元素: MaxHeap&lt;Long&gt;与LongMinHeap、IndexLongMinHeap对比
+ * -- extractAll: 每轮迭代前通过Heapify建堆(不计时),计时部分为取出全部size个元素
+ * -- 每轮只执行一次(SingleShotTime),结果为取出全部元素的耗时
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class PrimitiveHeapBenchmark {
+	@Param({"MaxHeap", "LongMinHeap", "IndexLongMinHeap"})
+	private String impl;
+
+	@Param({"10000000"})
+	private int size;
+
+	private long[] values;
+
+	private MaxHeap<Long> boxedHeap;
+	private LongMinHeap longHeap;
+	private IndexLongMinHeap indexHeap;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		if (values == null) {
+			Random random = new Random(BenchmarkData.SEED);
+			values = new long[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = random.nextLong();
+			}
+		}
+		switch (impl) {
+			case "MaxHeap":
+				Long[] boxed = new Long[size];
+				for (int i = 0; i < size; i++) {
+					boxed[i] = values[i];
+				}
+				boxedHeap = new MaxHeap<>(boxed);
+				break;
+			case "LongMinHeap":
+				longHeap = new LongMinHeap(values);
+				break;
+			case "IndexLongMinHeap":
+				indexHeap = new IndexLongMinHeap(size);
+				indexHeap.heapify(values);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown heap: " + impl);
+		}
+	}
+
+	@Benchmark
+	public long extractAll() {
+		long sum = 0;
+		switch (impl) {
+			case "MaxHeap":
+				while (!boxedHeap.isEmpty()) {
+					sum += boxedHeap.extractMax();
+				}
+				break;
+			case "LongMinHeap":
+				while (!longHeap.isEmpty()) {
+					sum += longHeap.extractMin();
+				}
+				break;
+			default:
+				while (!indexHeap.isEmpty()) {
+					sum += indexHeap.extractMin();
+				}
+		}
+		return sum;
+	}
+}
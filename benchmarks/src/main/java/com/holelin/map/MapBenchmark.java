@@ -0,0 +1,191 @@
+package com.holelin.map;
+
+import com.holelin.benchmark.BenchmarkData;
+import com.holelin.tree.HashTable;
+import com.holelin.tree.OpenHashTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: MapBenchmark
+ * 映射基准测试,替代MapTest
+ * -- wordCount: 与MapTest相同的词频统计,结果为每处理一个单词的吞吐量
+ * -- get: 在已统计完成的映射上查询
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapBenchmark {
+	@Param({"BSTMap", "AVLMap", "LinkedListMap", "HashTable", "OpenHashTable"})
+	private String impl;
+
+	@Param({"10000", "100000"})
+	private int size;
+
+	@Param({"text", "random"})
+	private String distribution;
+
+	private String[] words;
+
+	private Map<String, Integer> filled;
+
+	private int countCursor;
+	private Map<String, Integer> counting;
+
+	private int getCursor;
+
+	@Setup
+	public void setup() {
+		words = BenchmarkData.words(size, distribution);
+		filled = newMap();
+		for (String word : words) {
+			count(filled, word);
+		}
+		counting = newMap();
+		countCursor = 0;
+	}
+
+	private Map<String, Integer> newMap() {
+		switch (impl) {
+			case "BSTMap":
+				return new BSTMap<>();
+			case "AVLMap":
+				return new AVLMap<>();
+			case "LinkedListMap":
+				return new LinkedListMap<>();
+			case "HashTable":
+				return new HashTableMap<>();
+			case "OpenHashTable":
+				return new OpenHashTableMap<>();
+			default:
+				throw new IllegalArgumentException("Unknown map: " + impl);
+		}
+	}
+
+	private static void count(Map<String, Integer> map, String word) {
+		if (map.contains(word)) {
+			map.set(word, map.get(word) + 1);
+		} else {
+			map.add(word, 1);
+		}
+	}
+
+	@Benchmark
+	public void wordCount() {
+		count(counting, words[countCursor]);
+		// 统计完一遍后重新开始,使映射大小保持在与size相同的规模
+		if (++countCursor == words.length) {
+			countCursor = 0;
+			counting = newMap();
+		}
+	}
+
+	@Benchmark
+	public Integer get() {
+		Integer ret = filled.get(words[getCursor]);
+		getCursor = getCursor + 1 == words.length ? 0 : getCursor + 1;
+		return ret;
+	}
+
+	/**
+	 * 将HashTable适配为Map接口
+	 */
+	static class HashTableMap<K, V> implements Map<K, V> {
+		private final HashTable<K, V> table = new HashTable<>();
+
+		@Override
+		public void add(K key, V value) {
+			table.add(key, value);
+		}
+
+		@Override
+		public V remove(K key) {
+			return table.remove(key);
+		}
+
+		@Override
+		public boolean contains(K key) {
+			return table.contains(key);
+		}
+
+		@Override
+		public V get(K key) {
+			return table.get(key);
+		}
+
+		@Override
+		public void set(K key, V value) {
+			table.set(key, value);
+		}
+
+		@Override
+		public int getSize() {
+			return table.getSize();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return table.getSize() == 0;
+		}
+	}
+
+	/**
+	 * 将OpenHashTable适配为Map接口
+	 */
+	static class OpenHashTableMap<K, V> implements Map<K, V> {
+		private final OpenHashTable<K, V> table = new OpenHashTable<>();
+
+		@Override
+		public void add(K key, V value) {
+			table.add(key, value);
+		}
+
+		@Override
+		public V remove(K key) {
+			return table.remove(key);
+		}
+
+		@Override
+		public boolean contains(K key) {
+			return table.contains(key);
+		}
+
+		@Override
+		public V get(K key) {
+			return table.get(key);
+		}
+
+		@Override
+		public void set(K key, V value) {
+			table.set(key, value);
+		}
+
+		@Override
+		public int getSize() {
+			return table.getSize();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return table.getSize() == 0;
+		}
+	}
+}
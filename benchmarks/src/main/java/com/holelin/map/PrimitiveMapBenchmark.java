@@ -0,0 +1,98 @@
+package com.holelin.map;
+
+import com.holelin.benchmark.BenchmarkData;
+import com.holelin.tree.HashTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: PrimitiveMapBenchmark
+ * IntIntHashMap与HashTable<Integer,Integer>的计数和查询对比
+ * -- count: 每次操作给一个键的计数加一,键从keys/4个不同的值中随机选取
+ * -- get: 在计数完成的表上查询
+ * -- gc.alloc.rate.norm即每次操作的分配字节数,可直接比较装箱的开销
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveMapBenchmark {
+	@Param({"HashTable", "IntIntHashMap"})
+	private String impl;
+
+	@Param({"1000", "1000000"})
+	private int keys;
+
+	private int[] data;
+	private int cursor;
+
+	private HashTable<Integer, Integer> hashTable;
+	private IntIntHashMap intIntHashMap;
+
+	@Setup(Level.Trial)
+	public void setupData() {
+		Random random = new Random(BenchmarkData.SEED);
+		data = new int[keys];
+		for (int i = 0; i < keys; i++) {
+			data[i] = random.nextInt(Math.max(1, keys / 4));
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void setupMap() {
+		hashTable = new HashTable<>();
+		intIntHashMap = new IntIntHashMap();
+		for (int key : data) {
+			count(key);
+		}
+		cursor = 0;
+	}
+
+	private void count(int key) {
+		if ("IntIntHashMap".equals(impl)) {
+			intIntHashMap.addTo(key, 1);
+		} else {
+			Integer count = hashTable.get(key);
+			if (count == null) {
+				hashTable.add(key, 1);
+			} else {
+				hashTable.set(key, count + 1);
+			}
+		}
+	}
+
+	@Benchmark
+	public void count() {
+		count(data[cursor]);
+		cursor = cursor + 1 == data.length ? 0 : cursor + 1;
+	}
+
+	@Benchmark
+	public int get() {
+		int key = data[cursor];
+		cursor = cursor + 1 == data.length ? 0 : cursor + 1;
+		if ("IntIntHashMap".equals(impl)) {
+			return intIntHashMap.get(key);
+		}
+		return hashTable.get(key);
+	}
+}
@@ -0,0 +1,187 @@
+package com.holelin.queue;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * ClassName: ConcurrentPriorityQueueBenchmark
+ * 多线程优先队列的吞吐量和秩误差
+ * -- strict: ConcurrentPriorityQueue只有一个堆
+ * -- relaxed: ConcurrentPriorityQueue有2 * 线程数个堆
+ * -- pbq: java.util.concurrent.PriorityBlockingQueue
+ * -- 每轮迭代前放入0 ~ size-1的随机排列(不计时)
+ * -- mixed: 每次操作为一次入队加一次出队,结果为ops/s
+ * -- drain: 所有线程并发出队直到为空(SingleShotTime),结果为耗时;
+ * 迭代结束时输出按出队顺序计算的平均和最大秩误差(出队时队列中比它小的元素个数);
+ * 出队和记录顺序之间没有同步,多线程时strict和pbq也会有1 ~ 2的误差
+ * -- 线程数通过-t指定,例: -t 1 ~ -t 32
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentPriorityQueueBenchmark {
+    private static final Comparator<Integer> NATURAL = new Comparator<Integer>() {
+        @Override
+        public int compare(Integer a, Integer b) {
+            return Integer.compare(a, b);
+        }
+    };
+
+    /**
+     * 被测队列的非阻塞操作
+     */
+    private interface Channel {
+        void offer(Integer e);
+
+        Integer poll();
+    }
+
+    @Param({"strict", "relaxed", "pbq"})
+    private String impl;
+
+    @Param({"100000"})
+    private int size;
+
+    private Integer[] values;
+    private Integer[] keys;
+
+    private Channel channel;
+    /**
+     * drain中第k次出队的元素为order[k]
+     */
+    private AtomicIntegerArray order;
+    private AtomicInteger ticket;
+
+    @Setup(Level.Iteration)
+    public void setup(BenchmarkParams params) {
+        if (values == null) {
+            Random random = new Random(BenchmarkData.SEED);
+            values = new Integer[1 << 16];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt();
+            }
+            keys = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = i;
+            }
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Integer t = keys[i];
+                keys[i] = keys[j];
+                keys[j] = t;
+            }
+        }
+        channel = newChannel(params.getThreads());
+        for (Integer key : keys) {
+            channel.offer(key);
+        }
+        order = new AtomicIntegerArray(size);
+        ticket = new AtomicInteger();
+    }
+
+    private Channel newChannel(int threads) {
+        if ("pbq".equals(impl)) {
+            final PriorityBlockingQueue<Integer> pbq = new PriorityBlockingQueue<>();
+            return new Channel() {
+                @Override
+                public void offer(Integer e) {
+                    pbq.offer(e);
+                }
+
+                @Override
+                public Integer poll() {
+                    return pbq.poll();
+                }
+            };
+        }
+        final ConcurrentPriorityQueue<Integer> queue = "relaxed".equals(impl)
+                ? new ConcurrentPriorityQueue<>(NATURAL, 2 * threads)
+                : new ConcurrentPriorityQueue<>(NATURAL);
+        return new Channel() {
+            @Override
+            public void offer(Integer e) {
+                queue.enqueue(e);
+            }
+
+            @Override
+            public Integer poll() {
+                return queue.poll();
+            }
+        };
+    }
+
+    /**
+     * drain取出全部元素后,第k次出队的元素v的秩误差 = v - 之前出队的元素中小于v的个数
+     */
+    @TearDown(Level.Iteration)
+    public void reportRankError() {
+        if (ticket.get() != size) {
+            return;
+        }
+        // 树状数组记录已出队的元素
+        int[] tree = new int[size + 1];
+        long totalError = 0;
+        int maxError = 0;
+        for (int k = 0; k < size; k++) {
+            int v = order.get(k);
+            int removedBelow = 0;
+            for (int i = v; i > 0; i -= i & -i) {
+                removedBelow += tree[i];
+            }
+            int error = v - removedBelow;
+            totalError += error;
+            maxError = Math.max(maxError, error);
+            for (int i = v + 1; i <= size; i += i & -i) {
+                tree[i]++;
+            }
+        }
+        System.out.println(impl + ": mean rank error " + (double) totalError / size + ", max rank error " + maxError);
+    }
+
+    @Benchmark
+    public Integer mixed() {
+        channel.offer(values[ThreadLocalRandom.current().nextInt(values.length)]);
+        return channel.poll();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int drain() {
+        int count = 0;
+        Integer e;
+        while ((e = channel.poll()) != null) {
+            order.set(ticket.getAndIncrement(), e);
+            count++;
+        }
+        return count;
+    }
+}
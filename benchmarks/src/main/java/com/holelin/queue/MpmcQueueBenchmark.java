@@ -0,0 +1,128 @@
+package com.holelin.queue;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: MpmcQueueBenchmark
+ * 多个生产者和多个消费者争用同一个有界队列
+ * -- abq: java.util.concurrent.ArrayBlockingQueue
+ * -- mpmc: MpmcArrayQueue
+ * -- 使用非阻塞的offer/poll,迭代结束时不会有线程阻塞在put/take上;
+ * 主结果contended包含失败的尝试,比较吞吐量时看辅助结果offered/polled,
+ * 它们只统计成功入队/出队的元素
+ * -- 线程数通过-tg指定,例: -tg 4,4
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MpmcQueueBenchmark {
+    private static final Integer ELEMENT = 42;
+
+    /**
+     * 被测队列的非阻塞操作
+     */
+    private interface Channel {
+        boolean offer(Integer e);
+
+        Integer poll();
+    }
+
+    /**
+     * 每个线程成功的操作次数
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Transfers {
+        public long offered;
+        public long polled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            polled = 0;
+        }
+    }
+
+    @Param({"abq", "mpmc"})
+    private String impl;
+
+    @Param({"1024"})
+    private int capacity;
+
+    private Channel channel;
+
+    @Setup
+    public void setup() {
+        if ("mpmc".equals(impl)) {
+            final MpmcArrayQueue<Integer> mpmc = new MpmcArrayQueue<>(capacity);
+            channel = new Channel() {
+                @Override
+                public boolean offer(Integer e) {
+                    return mpmc.offer(e);
+                }
+
+                @Override
+                public Integer poll() {
+                    return mpmc.poll();
+                }
+            };
+        } else {
+            final ArrayBlockingQueue<Integer> abq = new ArrayBlockingQueue<>(capacity);
+            channel = new Channel() {
+                @Override
+                public boolean offer(Integer e) {
+                    return abq.offer(e);
+                }
+
+                @Override
+                public Integer poll() {
+                    return abq.poll();
+                }
+            };
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public void offer(Transfers transfers) {
+        if (channel.offer(ELEMENT)) {
+            transfers.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public Integer poll(Transfers transfers) {
+        Integer e = channel.poll();
+        if (e != null) {
+            transfers.polled++;
+        }
+        return e;
+    }
+}
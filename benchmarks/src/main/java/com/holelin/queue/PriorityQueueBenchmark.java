@@ -0,0 +1,107 @@
+package com.holelin.queue;
+
+import com.holelin.benchmark.BenchmarkData;
+import com.holelin.heap.MaxHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: PriorityQueueBenchmark
+ * 按截止时间最早先出队、截止时间相同先进先出的事件队列
+ * -- wrapper: MaxHeap中存放包装对象,包装对象反转compareTo并带有入队序号,每次入队创建一个包装对象
+ * -- comparator: PriorityQueue(Comparator, MIN, fifo),不创建额外对象
+ * -- 队列中保持size个事件,每次操作为一次出队加一次入队;用-prof gc查看gc.alloc.rate.norm
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PriorityQueueBenchmark {
+    private static final class Event {
+        final long deadline;
+
+        Event(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * 截止时间早的更"大",相同时序号小的更"大"
+     */
+    private static final class Wrapper implements Comparable<Wrapper> {
+        final Event event;
+        final long seq;
+
+        Wrapper(Event event, long seq) {
+            this.event = event;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(Wrapper o) {
+            int cmp = Long.compare(o.event.deadline, event.deadline);
+            return cmp != 0 ? cmp : Long.compare(o.seq, seq);
+        }
+    }
+
+    private static final Comparator<Event> BY_DEADLINE = new Comparator<Event>() {
+        @Override
+        public int compare(Event a, Event b) {
+            return Long.compare(a.deadline, b.deadline);
+        }
+    };
+
+    @Param({"wrapper", "comparator"})
+    private String impl;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private MaxHeap<Wrapper> wrapperHeap;
+    private long seq;
+    private PriorityQueue<Event> queue;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkData.SEED);
+        wrapperHeap = new MaxHeap<>();
+        queue = new PriorityQueue<>(BY_DEADLINE, PriorityQueue.Order.MIN, true);
+        for (int i = 0; i < size; i++) {
+            // 截止时间有大量重复,先进先出的顺序才有意义
+            Event e = new Event(random.nextInt(size / 10 + 1));
+            wrapperHeap.add(new Wrapper(e, seq++));
+            queue.enqueue(e);
+        }
+    }
+
+    @Benchmark
+    public Object steadyState() {
+        if ("wrapper".equals(impl)) {
+            Event e = wrapperHeap.extractMax().event;
+            wrapperHeap.add(new Wrapper(e, seq++));
+            return e;
+        }
+        Event e = queue.dequeue();
+        queue.enqueue(e);
+        return e;
+    }
+}
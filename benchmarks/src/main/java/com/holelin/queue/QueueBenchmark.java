@@ -0,0 +1,100 @@
+package com.holelin.queue;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: QueueBenchmark
+ * 队列基准测试,替代QueueEfficiencyTest
+ * -- steadyState: 队列中保持size个元素,每次操作为一次入队加一次出队
+ * -- fillAndDrain: 从空队列开始入队size个元素再全部出队(包含扩容和缩容),结果为每轮耗时
+ * -- ConcurrentLinkedListQueue在steadyState下复用节点,gc.alloc.rate.norm应接近0
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBenchmark {
+    @Param({"ArrayQueue", "LoopQueue", "LinkedListQueue", "ConcurrentLinkedListQueue"})
+    private String impl;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Integer[] values;
+
+    private Queue<Integer> queue;
+
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkData.SEED);
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+        queue = newQueue();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(values[i]);
+        }
+    }
+
+    private Queue<Integer> newQueue() {
+        switch (impl) {
+            case "ArrayQueue":
+                return new ArrayQueue<>();
+            case "LoopQueue":
+                return new LoopQueue<>();
+            case "LinkedListQueue":
+                return new LinkedListQueue<>();
+            case "ConcurrentLinkedListQueue":
+                return new ConcurrentLinkedListQueue<>();
+            default:
+                throw new IllegalArgumentException("Unknown queue: " + impl);
+        }
+    }
+
+    @Benchmark
+    public Integer steadyState() {
+        queue.enqueue(values[cursor]);
+        if (++cursor == values.length) {
+            cursor = 0;
+        }
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void fillAndDrain(Blackhole bh) {
+        Queue<Integer> q = newQueue();
+        Integer[] values = this.values;
+        for (int i = 0; i < values.length; i++) {
+            q.enqueue(values[i]);
+        }
+        for (int i = 0; i < values.length; i++) {
+            bh.consume(q.dequeue());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.holelin.queue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: SpscQueueBenchmark
+ * 一个生产者线程和一个消费者线程之间传递元素
+ * -- synchronized: 用synchronized保护的LoopQueue
+ * -- spsc: SpscRingQueue的offer/poll
+ * -- 队列满(空)时offer(poll)立即返回,结果中的ops包含这些失败的尝试;
+ * 实际传递的元素个数见SpscRingQueueTest
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class SpscQueueBenchmark {
+    private static final Integer ELEMENT = 42;
+
+    @Param({"synchronized", "spsc"})
+    private String impl;
+
+    @Param({"16384"})
+    private int capacity;
+
+    private LoopQueue<Integer> locked;
+    private SpscRingQueue<Integer> spsc;
+
+    @Setup
+    public void setup() {
+        locked = new LoopQueue<>(capacity);
+        spsc = new SpscRingQueue<>(capacity);
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public boolean offer() {
+        if ("spsc".equals(impl)) {
+            return spsc.offer(ELEMENT);
+        }
+        synchronized (locked) {
+            if (locked.getSize() >= capacity) {
+                return false;
+            }
+            locked.enqueue(ELEMENT);
+            return true;
+        }
+    }
+
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public Integer poll() {
+        if ("spsc".equals(impl)) {
+            return spsc.poll();
+        }
+        synchronized (locked) {
+            return locked.isEmpty() ? null : locked.dequeue();
+        }
+    }
+}
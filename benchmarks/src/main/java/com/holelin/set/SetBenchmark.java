@@ -0,0 +1,92 @@
+package com.holelin.set;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: SetBenchmark
+ * 集合基准测试,替代SetTest
+ * -- add: 逐个添加单词(含重复),每添加完一遍后重新开始
+ * -- contains: 在已添加完成的集合上查询
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SetBenchmark {
+	@Param({"BSTSet", "AVLSet", "LinkedListSet"})
+	private String impl;
+
+	@Param({"10000", "100000"})
+	private int size;
+
+	@Param({"text", "random"})
+	private String distribution;
+
+	private String[] words;
+
+	private Set<String> filled;
+
+	private int addCursor;
+	private Set<String> adding;
+
+	private int containsCursor;
+
+	@Setup
+	public void setup() {
+		words = BenchmarkData.words(size, distribution);
+		filled = newSet();
+		for (String word : words) {
+			filled.add(word);
+		}
+		adding = newSet();
+		addCursor = 0;
+	}
+
+	private Set<String> newSet() {
+		switch (impl) {
+			case "BSTSet":
+				return new BSTSet<>();
+			case "AVLSet":
+				return new AVLSet<>();
+			case "LinkedListSet":
+				return new LinkedListSet<>();
+			default:
+				throw new IllegalArgumentException("Unknown set: " + impl);
+		}
+	}
+
+	@Benchmark
+	public void add() {
+		adding.add(words[addCursor]);
+		if (++addCursor == words.length) {
+			addCursor = 0;
+			adding = newSet();
+		}
+	}
+
+	@Benchmark
+	public boolean contains() {
+		boolean ret = filled.contains(words[containsCursor]);
+		containsCursor = containsCursor + 1 == words.length ? 0 : containsCursor + 1;
+		return ret;
+	}
+}
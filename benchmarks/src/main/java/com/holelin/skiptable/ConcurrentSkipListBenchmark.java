@@ -0,0 +1,106 @@
+package com.holelin.skiptable;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: ConcurrentSkipListBenchmark
+ * 读多写少的有序索引,写线程与读线程1:4
+ * -- synchronized: 全局锁保护的SkipListOptimize
+ * -- concurrent: ConcurrentSkipListIntMap
+ * -- jdk: java.util.concurrent.ConcurrentSkipListMap,作为参照
+ * -- 写操作: 键存在则删除,否则插入,表的大小保持在keys / 2左右
+ * -- 线程数通过-tg指定,例: -tg 4,16 (4个写线程,16个读线程)
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentSkipListBenchmark {
+
+    @Param({"synchronized", "concurrent", "jdk"})
+    private String impl;
+
+    @Param({"100000"})
+    private int keys;
+
+    private SkipListOptimize locked;
+    private ConcurrentSkipListIntMap<Integer> concurrent;
+    private ConcurrentSkipListMap<Integer, Integer> jdk;
+
+    @Setup
+    public void setup() {
+        locked = new SkipListOptimize();
+        concurrent = new ConcurrentSkipListIntMap<>();
+        jdk = new ConcurrentSkipListMap<>();
+        Random random = new Random(BenchmarkData.SEED);
+        for (int i = 0; i < keys / 2; i++) {
+            write(random.nextInt(keys));
+        }
+    }
+
+    private void write(int key) {
+        if ("concurrent".equals(impl)) {
+            if (concurrent.remove(key) == null) {
+                concurrent.add(key, key);
+            }
+        } else if ("jdk".equals(impl)) {
+            if (jdk.remove(key) == null) {
+                jdk.put(key, key);
+            }
+        } else {
+            synchronized (locked) {
+                if (locked.find(key) != null) {
+                    locked.delete(key);
+                } else {
+                    locked.insert(key);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void write() {
+        write(ThreadLocalRandom.current().nextInt(keys));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public Object read() {
+        int key = ThreadLocalRandom.current().nextInt(keys);
+        if ("concurrent".equals(impl)) {
+            return concurrent.get(key);
+        } else if ("jdk".equals(impl)) {
+            return jdk.get(key);
+        }
+        synchronized (locked) {
+            return locked.find(key);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.holelin.skiptable;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: SkipListLookupBenchmark
+ * 对象节点的SkipListOptimize与int[]存储的ArenaSkipList的查找延迟
+ * -- 两者都用bulkLoad构建,层数分布是确定的,只比较内存布局的影响
+ * -- 10M个键时SkipListOptimize约占用0.6GB,fork时指定了-Xmx3g
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class SkipListLookupBenchmark {
+
+    @Param({"SkipListOptimize", "ArenaSkipList"})
+    private String impl;
+
+    @Param({"1000000", "10000000"})
+    private int keys;
+
+    private SkipListOptimize objects;
+    private ArenaSkipList arena;
+    private int[] queries;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkData.SEED);
+        int[] sorted = new int[keys];
+        for (int i = 0; i < keys; i++) {
+            sorted[i] = random.nextInt();
+        }
+        Arrays.sort(sorted);
+        int m = 0;
+        for (int i = 0; i < keys; i++) {
+            if (m == 0 || sorted[i] != sorted[m - 1]) {
+                sorted[m++] = sorted[i];
+            }
+        }
+        sorted = Arrays.copyOf(sorted, m);
+        if ("ArenaSkipList".equals(impl)) {
+            arena = new ArenaSkipList();
+            arena.bulkLoad(sorted);
+        } else {
+            objects = new SkipListOptimize();
+            objects.bulkLoad(sorted);
+        }
+        queries = new int[1 << 20];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = sorted[random.nextInt(m)];
+        }
+    }
+
+    @Benchmark
+    public boolean lookup() {
+        int value = queries[cursor];
+        cursor = (cursor + 1) & (queries.length - 1);
+        if ("ArenaSkipList".equals(impl)) {
+            return arena.contains(value);
+        }
+        return objects.find(value) != null;
+    }
+}
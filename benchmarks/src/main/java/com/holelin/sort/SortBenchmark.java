@@ -0,0 +1,101 @@
+package com.holelin.sort;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: SortBenchmark
+ * 排序基准测试
+ * -- 每次调用先拷贝输入再排序,拷贝的开销见copyOnly
+ * -- 结果为每次排序的平均耗时
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+    @Param({"quickSort", "introSort", "mergeSort", "parallelMergeSort", "heapSort", "timSort",
+            "radixSort", "countingSort", "shellSort", "Arrays.sort"})
+    private String algorithm;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    @Param({"random", "sorted", "reversed", "sawtooth", "fewDistinct"})
+    private String distribution;
+
+    private int[] data;
+    private int[] work;
+
+    @Setup
+    public void setup() {
+        data = BenchmarkData.ints(size, distribution);
+        work = new int[size];
+    }
+
+    @Benchmark
+    public int[] sort() {
+        int[] arr = work;
+        System.arraycopy(data, 0, arr, 0, size);
+        switch (algorithm) {
+            case "quickSort":
+                Sorts.quickSort(arr);
+                break;
+            case "introSort":
+                Sorts.introSort(arr);
+                break;
+            case "mergeSort":
+                Sorts.mergeSort(arr);
+                break;
+            case "parallelMergeSort":
+                Sorts.parallelMergeSort(arr, Runtime.getRuntime().availableProcessors());
+                break;
+            case "heapSort":
+                Sorts.heapSort(arr);
+                break;
+            case "timSort":
+                Sorts.timSort(arr);
+                break;
+            case "radixSort":
+                Sorts.radixSort(arr);
+                break;
+            case "countingSort":
+                Sorts.countingSort(arr);
+                break;
+            case "shellSort":
+                Sorts.shellSort(arr);
+                break;
+            case "Arrays.sort":
+                Arrays.sort(arr);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        return arr;
+    }
+
+    @Benchmark
+    public int[] copyOnly() {
+        System.arraycopy(data, 0, work, 0, size);
+        return work;
+    }
+}
@@ -0,0 +1,95 @@
+package com.holelin.stack;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: StackBenchmark
+ * 栈基准测试,替代StackEfficiencyTest
+ * -- steadyState: 栈中保持size个元素,每次操作为一次入栈加一次出栈
+ * -- fillAndDrain: 从空栈开始入栈size个元素再全部出栈(包含扩容和缩容),结果为每轮耗时
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmark {
+    @Param({"ArrayStack", "LinkedListStack"})
+    private String impl;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Integer[] values;
+
+    private Stack<Integer> stack;
+
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(BenchmarkData.SEED);
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+        stack = newStack();
+        for (int i = 0; i < size; i++) {
+            stack.push(values[i]);
+        }
+    }
+
+    private Stack<Integer> newStack() {
+        switch (impl) {
+            case "ArrayStack":
+                return new ArrayStack<>();
+            case "LinkedListStack":
+                return new LinkedListStack<>();
+            default:
+                throw new IllegalArgumentException("Unknown stack: " + impl);
+        }
+    }
+
+    @Benchmark
+    public Integer steadyState() {
+        stack.push(values[cursor]);
+        if (++cursor == values.length) {
+            cursor = 0;
+        }
+        return stack.pop();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void fillAndDrain(Blackhole bh) {
+        Stack<Integer> s = newStack();
+        Integer[] values = this.values;
+        for (int i = 0; i < values.length; i++) {
+            s.push(values[i]);
+        }
+        for (int i = 0; i < values.length; i++) {
+            bh.consume(s.pop());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.holelin.tree;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: ConcurrentHashTableBenchmark
+ * 多线程词频统计,对比全局锁保护的HashTable与ConcurrentHashTable
+ * -- 所有线程共享同一张表,每个线程从随机位置开始遍历单词
+ * -- 线程数通过-t指定,例: -t 1, -t 8, -t 24
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentHashTableBenchmark {
+	private static final ConcurrentHashTable.MergeFunction<Integer> SUM = new ConcurrentHashTable.MergeFunction<Integer>() {
+		@Override
+		public Integer apply(Integer oldValue, Integer value) {
+			return oldValue + value;
+		}
+	};
+
+	@Param({"synchronized", "concurrent"})
+	private String impl;
+
+	private String[] words;
+
+	private HashTable<String, Integer> locked;
+	private ConcurrentHashTable<String, Integer> concurrent;
+
+	@Setup
+	public void setup() {
+		words = BenchmarkData.words(BenchmarkData.readWords().size(), "text");
+		locked = new HashTable<>();
+		concurrent = new ConcurrentHashTable<>();
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int index = -1;
+	}
+
+	@Benchmark
+	public void wordCount(Cursor cursor) {
+		if (cursor.index < 0) {
+			cursor.index = ThreadLocalRandom.current().nextInt(words.length);
+		}
+		String word = words[cursor.index];
+		cursor.index = cursor.index + 1 == words.length ? 0 : cursor.index + 1;
+		if ("concurrent".equals(impl)) {
+			concurrent.merge(word, 1, SUM);
+		} else {
+			// 与MapTest.testMap相同的contains + get + set,需要全局锁保证原子性
+			synchronized (locked) {
+				if (locked.contains(word)) {
+					locked.set(word, locked.get(word) + 1);
+				} else {
+					locked.add(word, 1);
+				}
+			}
+		}
+	}
+}
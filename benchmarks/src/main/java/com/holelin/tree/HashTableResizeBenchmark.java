@@ -0,0 +1,53 @@
+package com.holelin.tree;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: HashTableResizeBenchmark
+ * HashTable单次add的延迟分布
+ * -- SampleTime模式输出各分位数的延迟,p1.00即为采样到的最大停顿
+ * -- 每轮迭代从空表开始持续添加新键,期间会多次扩容
+ * -- 固定堆大小,避免堆扩张引起的GC停顿干扰扩容停顿
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class HashTableResizeBenchmark {
+	@Param({"false", "true"})
+	private boolean incremental;
+
+	private HashTable<Integer, Integer> table;
+	private int next;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		table = new HashTable<>(incremental);
+		next = 0;
+	}
+
+	@Benchmark
+	public void add() {
+		Integer key = next++;
+		table.add(key, key);
+	}
+}
@@ -0,0 +1,113 @@
+package com.holelin.unionfind;
+
+import com.holelin.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassName: UnionFindBenchmark
+ * 并查集基准测试,替代UnionFindTest
+ * -- 每次操作为一次unionElements加一次isConnected
+ * -- 每轮迭代重新创建并查集,保证各实现的树形状从相同的初始状态开始演化
+ * -- QuickFind的合并为O(n),不参与测试
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnionFindBenchmark {
+	@Param({"QuickUnionBySize", "QuickUnionByRank", "QuickUnionByPathCompression", "QuickUnionByPathCompression2", "QuickUnionCompact", "ConcurrentUnionFind"})
+	private String impl;
+
+	@Param({"10000", "10000000"})
+	private int size;
+
+	/**
+	 * random: 随机的两个元素合并; chain: 相邻元素依次合并,生成链状的集合
+	 */
+	@Param({"random", "chain"})
+	private String distribution;
+
+	private int[] ps;
+	private int[] qs;
+	private int[] findPs;
+	private int[] findQs;
+
+	private UnionFind uf;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setupData() {
+		Random random = new Random(BenchmarkData.SEED);
+		ps = new int[size];
+		qs = new int[size];
+		findPs = new int[size];
+		findQs = new int[size];
+		for (int i = 0; i < size; i++) {
+			if ("chain".equals(distribution)) {
+				ps[i] = i;
+				qs[i] = i + 1 < size ? i + 1 : 0;
+			} else {
+				ps[i] = random.nextInt(size);
+				qs[i] = random.nextInt(size);
+			}
+			findPs[i] = random.nextInt(size);
+			findQs[i] = random.nextInt(size);
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void setupUnionFind() {
+		switch (impl) {
+			case "QuickUnionBySize":
+				uf = new QuickUnionBySize(size);
+				break;
+			case "QuickUnionByRank":
+				uf = new QuickUnionByRank(size);
+				break;
+			case "QuickUnionByPathCompression":
+				uf = new QuickUnionByPathCompression(size);
+				break;
+			case "QuickUnionByPathCompression2":
+				uf = new QuickUnionByPathCompression2(size);
+				break;
+			case "QuickUnionCompact":
+				uf = new QuickUnionCompact(size);
+				break;
+			case "ConcurrentUnionFind":
+				uf = new ConcurrentUnionFind(size);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown union find: " + impl);
+		}
+		cursor = 0;
+	}
+
+	@Benchmark
+	public boolean unionThenFind() {
+		int i = cursor;
+		uf.unionElements(ps[i], qs[i]);
+		boolean connected = uf.isConnected(findPs[i], findQs[i]);
+		cursor = i + 1 == size ? 0 : i + 1;
+		return connected;
+	}
+}
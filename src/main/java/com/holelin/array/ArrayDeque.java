@@ -0,0 +1,200 @@
+package com.holelin.array;
+
+/**
+ * ClassName: ArrayDeque
+ * 基于循环数组的双端队列
+ * <p>
+ * 与{@link Array}相比,在两端添加、删除元素都是O(1),不需要移动元素:
+ * 1. 容量为2的幂,下标用 (head + i) &amp; (capacity - 1) 计算,不需要取模,也不浪费一个位置
+ * 2. 满了扩容为两倍;元素个数降到容量的1/4时缩容为一半(不小于初始容量),避免在临界点反复扩缩容
+ * 3. pollFirst/pollLast在为空时返回null;removeFirst/removeLast在为空时抛出异常
+ * <p>
+ * ArrayQueue和ArrayStack都以它为底层结构
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ArrayDeque<E> {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private E[] data;
+	/**
+	 * 第一个元素的位置
+	 */
+	private int head;
+	/**
+	 * 元素的个数
+	 */
+	private int size;
+	/**
+	 * 缩容不低于的容量
+	 */
+	private final int minCapacity;
+
+	/**
+	 * @param capacity 初始容量,会向上取整为2的幂
+	 */
+	@SuppressWarnings("unchecked")
+	public ArrayDeque(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("capacity must be in (0, 2^30]");
+		}
+		int n = Integer.highestOneBit(capacity);
+		if (n < capacity) {
+			n <<= 1;
+		}
+		data = (E[]) new Object[n];
+		minCapacity = n;
+	}
+
+	public ArrayDeque() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public int getCapacity() {
+		return data.length;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 在开头添加元素
+	 * 时间复杂度 : 均摊O(1)
+	 *
+	 * @param element 待添加的元素
+	 */
+	public void addFirst(E element) {
+		if (size == data.length) {
+			resize(data.length << 1);
+		}
+		head = (head - 1) & (data.length - 1);
+		data[head] = element;
+		size++;
+	}
+
+	/**
+	 * 在末尾添加元素
+	 * 时间复杂度 : 均摊O(1)
+	 *
+	 * @param element 待添加的元素
+	 */
+	public void addLast(E element) {
+		if (size == data.length) {
+			resize(data.length << 1);
+		}
+		data[(head + size) & (data.length - 1)] = element;
+		size++;
+	}
+
+	/**
+	 * 删除并返回第一个元素
+	 *
+	 * @return 第一个元素,为空返回null
+	 */
+	public E pollFirst() {
+		if (size == 0) {
+			return null;
+		}
+		E ret = data[head];
+		data[head] = null;
+		head = (head + 1) & (data.length - 1);
+		size--;
+		shrinkIfSparse();
+		return ret;
+	}
+
+	/**
+	 * 删除并返回最后一个元素
+	 *
+	 * @return 最后一个元素,为空返回null
+	 */
+	public E pollLast() {
+		if (size == 0) {
+			return null;
+		}
+		int tail = (head + size - 1) & (data.length - 1);
+		E ret = data[tail];
+		data[tail] = null;
+		size--;
+		shrinkIfSparse();
+		return ret;
+	}
+
+	public E removeFirst() {
+		if (size == 0) {
+			throw new IllegalArgumentException("Remove failed. Deque is empty");
+		}
+		return pollFirst();
+	}
+
+	public E removeLast() {
+		if (size == 0) {
+			throw new IllegalArgumentException("Remove failed. Deque is empty");
+		}
+		return pollLast();
+	}
+
+	/**
+	 * 获取从开头数第index个元素
+	 * 时间复杂度 : O(1)
+	 *
+	 * @param index 元素的位置
+	 * @return index位置的元素
+	 */
+	public E get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IllegalArgumentException("Get failed. Index is illegal");
+		}
+		return data[(head + index) & (data.length - 1)];
+	}
+
+	public E getFirst() {
+		return get(0);
+	}
+
+	public E getLast() {
+		return get(size - 1);
+	}
+
+	private void shrinkIfSparse() {
+		if (size == data.length >> 2 && data.length >> 1 >= minCapacity) {
+			resize(data.length >> 1);
+		}
+	}
+
+	/**
+	 * 按顺序把元素复制到新数组的开头
+	 */
+	@SuppressWarnings("unchecked")
+	private void resize(int newCapacity) {
+		E[] newData = (E[]) new Object[newCapacity];
+		int first = Math.min(size, data.length - head);
+		System.arraycopy(data, head, newData, 0, first);
+		System.arraycopy(data, 0, newData, first, size - first);
+		data = newData;
+		head = 0;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder res = new StringBuilder();
+		res.append(String.format("ArrayDeque: size = %d, capacity = %d\n", size, data.length));
+		res.append('[');
+		for (int i = 0; i < size; i++) {
+			res.append(get(i));
+			if (i != size - 1) {
+				res.append(", ");
+			}
+		}
+		res.append(']');
+		return res.toString();
+	}
+}
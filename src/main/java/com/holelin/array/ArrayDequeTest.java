@@ -0,0 +1,54 @@
+package com.holelin.array;
+
+import java.util.Random;
+
+/**
+ * ClassName: ArrayDequeTest
+ * 循环数组双端队列测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ArrayDequeTest {
+	public static void main(String[] args) {
+		// 随机操作,与java.util.ArrayDeque比对
+		ArrayDeque<Integer> deque = new ArrayDeque<>(4);
+		java.util.ArrayDeque<Integer> expected = new java.util.ArrayDeque<>();
+		Random random = new Random();
+		int maxCapacity = 0;
+		for (int i = 0; i < 1000000; i++) {
+			// 前半段偏向添加,后半段偏向删除,覆盖扩容和缩容
+			int op = random.nextInt(10) + (i < 500000 ? 0 : 2);
+			if (op < 3) {
+				deque.addFirst(i);
+				expected.addFirst(i);
+			} else if (op < 6) {
+				deque.addLast(i);
+				expected.addLast(i);
+			} else if (op < 9) {
+				if (!equals(deque.pollFirst(), expected.pollFirst())) {
+					throw new IllegalArgumentException("Error");
+				}
+			} else if (!equals(deque.pollLast(), expected.pollLast())) {
+				throw new IllegalArgumentException("Error");
+			}
+			if (deque.getSize() != expected.size()
+					|| (!expected.isEmpty() && (!deque.getFirst().equals(expected.peekFirst())
+					|| !deque.getLast().equals(expected.peekLast())))) {
+				throw new IllegalArgumentException("Error");
+			}
+			maxCapacity = Math.max(maxCapacity, deque.getCapacity());
+		}
+		if (deque.getCapacity() > 4 * Math.max(deque.getSize(), 4)) {
+			throw new IllegalArgumentException("Error");
+		}
+		System.out.println("Test ArrayDeque completed, max capacity " + maxCapacity + ", final capacity "
+				+ deque.getCapacity() + ", size " + deque.getSize());
+	}
+
+	private static boolean equals(Integer a, Integer b) {
+		return a == null ? b == null : a.equals(b);
+	}
+}
@@ -0,0 +1,206 @@
+package com.holelin.heap;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * ClassName: ComparatorHeap
+ * 基于Comparator的d叉堆,堆顶为comparator意义下最小的元素
+ * <p>
+ * 与{@link MaxHeap}相比:
+ * 1. 元素不需要实现Comparable,顺序完全由comparator决定;需要大顶堆时传入反转的comparator,
+ * 不需要为每个元素创建反转compareTo的包装对象
+ * 2. stable为true时,每个元素入堆时记录一个递增的序号,存放在与元素平行的long数组中;
+ * comparator相等时序号小的(先入堆的)在前,相等元素按先进先出的顺序出堆
+ * 3. 上浮/下沉移动空位(hole),同{@link MaxHeap}
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ComparatorHeap<E> {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Comparator<? super E> comparator;
+	private final int d;
+
+	private Object[] data;
+	/**
+	 * 与data平行的入堆序号,不需要稳定顺序时为null
+	 */
+	private long[] seq;
+	private long nextSeq;
+	private int size;
+
+	/**
+	 * @param comparator 元素的比较器
+	 * @param stable     相等的元素是否按入堆顺序出堆
+	 * @param d          每个节点的孩子个数
+	 */
+	public ComparatorHeap(Comparator<? super E> comparator, boolean stable, int d) {
+		if (comparator == null) {
+			throw new IllegalArgumentException("comparator can't be null");
+		}
+		if (d < 2) {
+			throw new IllegalArgumentException("d must be at least 2.");
+		}
+		this.comparator = comparator;
+		this.d = d;
+		data = new Object[DEFAULT_CAPACITY];
+		if (stable) {
+			seq = new long[DEFAULT_CAPACITY];
+		}
+	}
+
+	public ComparatorHeap(Comparator<? super E> comparator) {
+		this(comparator, false, 2);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 添加元素e
+	 * 时间复杂度 : O(log_d(n))
+	 *
+	 * @param e 元素e
+	 */
+	public void add(E e) {
+		if (size == data.length) {
+			data = Arrays.copyOf(data, size << 1);
+			if (seq != null) {
+				seq = Arrays.copyOf(seq, size << 1);
+			}
+		}
+		siftUp(size++, e, nextSeq++);
+	}
+
+	/**
+	 * 查看堆顶元素
+	 *
+	 * @return 堆中最小的元素
+	 */
+	@SuppressWarnings("unchecked")
+	public E findMin() {
+		if (size == 0) {
+			throw new IllegalArgumentException("Can not findMin when heap is empty.");
+		}
+		return (E) data[0];
+	}
+
+	/**
+	 * 取出堆顶元素
+	 * 时间复杂度 : O(d * log_d(n))
+	 *
+	 * @return 堆中最小的元素
+	 */
+	@SuppressWarnings("unchecked")
+	public E extractMin() {
+		E ret = findMin();
+		size--;
+		E last = (E) data[size];
+		data[size] = null;
+		if (size > 0) {
+			siftDown(0, last, seqAt(size));
+		}
+		return ret;
+	}
+
+	/**
+	 * 取出堆顶元素,并且替换成元素e,同{@link MaxHeap#replace}
+	 * 时间复杂度 : O(d * log_d(n))
+	 *
+	 * @param e 元素e
+	 * @return 堆中最小的元素
+	 */
+	public E replace(E e) {
+		E ret = findMin();
+		siftDown(0, e, nextSeq++);
+		return ret;
+	}
+
+	/**
+	 * 按数组顺序(不是出堆顺序)访问第i个元素
+	 */
+	@SuppressWarnings("unchecked")
+	E get(int i) {
+		return (E) data[i];
+	}
+
+	/**
+	 * (a, seqA)是否应排在(b, seqB)之前
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean less(Object a, long seqA, Object b, long seqB) {
+		int cmp = comparator.compare((E) a, (E) b);
+		if (cmp != 0 || seq == null) {
+			return cmp < 0;
+		}
+		return seqA < seqB;
+	}
+
+	private long seqAt(int k) {
+		return seq == null ? 0 : seq[k];
+	}
+
+	/**
+	 * 将(e, s)放入位置k,并上浮到合适的位置
+	 */
+	private void siftUp(int k, E e, long s) {
+		while (k > 0) {
+			int parent = (k - 1) / d;
+			if (!less(e, s, data[parent], seqAt(parent))) {
+				break;
+			}
+			move(parent, k);
+			k = parent;
+		}
+		put(k, e, s);
+	}
+
+	/**
+	 * 将(e, s)放入位置k,并下沉到合适的位置
+	 */
+	private void siftDown(int k, E e, long s) {
+		while (true) {
+			int first = k * d + 1;
+			if (first >= size) {
+				break;
+			}
+			int end = Math.min(first + d, size);
+			// j保存孩子中最小的一个
+			int j = first;
+			for (int i = first + 1; i < end; i++) {
+				if (less(data[i], seqAt(i), data[j], seqAt(j))) {
+					j = i;
+				}
+			}
+			if (!less(data[j], seqAt(j), e, s)) {
+				break;
+			}
+			move(j, k);
+			k = j;
+		}
+		put(k, e, s);
+	}
+
+	private void move(int from, int to) {
+		data[to] = data[from];
+		if (seq != null) {
+			seq[to] = seq[from];
+		}
+	}
+
+	private void put(int k, E e, long s) {
+		data[k] = e;
+		if (seq != null) {
+			seq[k] = s;
+		}
+	}
+}
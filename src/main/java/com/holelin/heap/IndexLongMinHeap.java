@@ -0,0 +1,277 @@
+package com.holelin.heap;
+
+import java.util.Arrays;
+
+/**
+ * ClassName: IndexLongMinHeap
+ * 元素为long的索引小顶堆,可以修改任意元素的值或删除任意元素
+ * <p>
+ * 1. add返回一个句柄(handle),之后通过句柄修改(decreaseKey/increaseKey)或删除(remove)该元素,O(logn)
+ * 2. 堆中按堆的顺序存放两个平行数组keys和handles,上浮/下沉只比较keys,访问连续的内存;
+ * pos[handle]记录句柄所在的位置,每次移动元素时同步更新
+ * 3. 元素被取出或删除后,句柄会被之后的add复用
+ * 4. 上浮/下沉使用空位(hole)移动,同{@link LongMinHeap}
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class IndexLongMinHeap {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * 按堆的顺序存放的键和句柄
+	 */
+	private long[] keys;
+	private int[] handles;
+	private int size;
+
+	/**
+	 * pos[handle]为句柄所在的位置,不在堆中时为-1
+	 */
+	private int[] pos;
+	/**
+	 * 已分配过的句柄个数
+	 */
+	private int handleCount;
+	/**
+	 * 可复用的句柄
+	 */
+	private int[] freeHandles;
+	private int freeCount;
+
+	public IndexLongMinHeap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IndexLongMinHeap(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity can't be negative");
+		}
+		allocate(Math.max(capacity, 1));
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		handles = new int[capacity];
+		pos = new int[capacity];
+		freeHandles = new int[capacity];
+		size = 0;
+		handleCount = 0;
+		freeCount = 0;
+	}
+
+	/**
+	 * 清空堆,并以keys中的元素重新建堆,keys[i]的句柄为i
+	 * 时间复杂度 : O(n)
+	 *
+	 * @param arr 元素数组,不会被修改
+	 */
+	public void heapify(long[] arr) {
+		if (keys.length < arr.length) {
+			allocate(arr.length);
+		}
+		System.arraycopy(arr, 0, keys, 0, arr.length);
+		for (int i = 0; i < arr.length; i++) {
+			handles[i] = i;
+			pos[i] = i;
+		}
+		size = arr.length;
+		handleCount = arr.length;
+		freeCount = 0;
+		for (int i = (size >>> 1) - 1; i >= 0; i--) {
+			siftDown(i, keys[i], handles[i]);
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 添加元素
+	 * 时间复杂度 : O(logn)
+	 *
+	 * @param key 元素的值
+	 * @return 元素的句柄
+	 */
+	public int add(long key) {
+		if (size == keys.length) {
+			int capacity = keys.length << 1;
+			keys = Arrays.copyOf(keys, capacity);
+			handles = Arrays.copyOf(handles, capacity);
+			pos = Arrays.copyOf(pos, capacity);
+			freeHandles = Arrays.copyOf(freeHandles, capacity);
+		}
+		int handle = freeCount > 0 ? freeHandles[--freeCount] : handleCount++;
+		siftUp(size++, key, handle);
+		return handle;
+	}
+
+	/**
+	 * @return handle对应的元素是否在堆中
+	 */
+	public boolean contains(int handle) {
+		return handle >= 0 && handle < handleCount && pos[handle] >= 0;
+	}
+
+	/**
+	 * @return handle对应的元素的值
+	 */
+	public long key(int handle) {
+		return keys[indexOf(handle)];
+	}
+
+	private int indexOf(int handle) {
+		if (!contains(handle)) {
+			throw new IllegalArgumentException("handle " + handle + " doesn't exist!");
+		}
+		return pos[handle];
+	}
+
+	/**
+	 * 查看堆中最小值
+	 *
+	 * @return 堆中最小值
+	 */
+	public long findMin() {
+		if (size == 0) {
+			throw new IllegalArgumentException("Can not findMin when heap is empty.");
+		}
+		return keys[0];
+	}
+
+	/**
+	 * @return 堆中最小值的句柄
+	 */
+	public int findMinHandle() {
+		if (size == 0) {
+			throw new IllegalArgumentException("Can not findMin when heap is empty.");
+		}
+		return handles[0];
+	}
+
+	/**
+	 * 取出堆中最小值,其句柄随之失效
+	 * 时间复杂度 : O(logn)
+	 *
+	 * @return 堆中最小值
+	 */
+	public long extractMin() {
+		long ret = findMin();
+		removeAt(0);
+		return ret;
+	}
+
+	/**
+	 * 删除handle对应的元素,句柄随之失效
+	 * 时间复杂度 : O(logn)
+	 *
+	 * @return 被删除元素的值
+	 */
+	public long remove(int handle) {
+		int index = indexOf(handle);
+		long ret = keys[index];
+		removeAt(index);
+		return ret;
+	}
+
+	/**
+	 * 将handle对应元素的值减小为key
+	 * 时间复杂度 : O(logn)
+	 */
+	public void decreaseKey(int handle, long key) {
+		int index = indexOf(handle);
+		if (key > keys[index]) {
+			throw new IllegalArgumentException("new key is greater than current key");
+		}
+		siftUp(index, key, handle);
+	}
+
+	/**
+	 * 将handle对应元素的值增大为key
+	 * 时间复杂度 : O(logn)
+	 */
+	public void increaseKey(int handle, long key) {
+		int index = indexOf(handle);
+		if (key < keys[index]) {
+			throw new IllegalArgumentException("new key is less than current key");
+		}
+		siftDown(index, key, handle);
+	}
+
+	/**
+	 * 用最后一个元素填补位置index,再根据它的值上浮或下沉
+	 */
+	private void removeAt(int index) {
+		int removed = handles[index];
+		pos[removed] = -1;
+		freeHandles[freeCount++] = removed;
+		size--;
+		if (index == size) {
+			return;
+		}
+		long key = keys[size];
+		int handle = handles[size];
+		if (index > 0 && key < keys[(index - 1) >>> 1]) {
+			siftUp(index, key, handle);
+		} else {
+			siftDown(index, key, handle);
+		}
+	}
+
+	/**
+	 * 将(key, handle)放入位置k,并上浮到合适的位置
+	 */
+	private void siftUp(int k, long key, int handle) {
+		long[] keys = this.keys;
+		int[] handles = this.handles;
+		while (k > 0) {
+			int parent = (k - 1) >>> 1;
+			long p = keys[parent];
+			if (p <= key) {
+				break;
+			}
+			keys[k] = p;
+			handles[k] = handles[parent];
+			pos[handles[k]] = k;
+			k = parent;
+		}
+		keys[k] = key;
+		handles[k] = handle;
+		pos[handle] = k;
+	}
+
+	/**
+	 * 将(key, handle)放入位置k,并下沉到合适的位置
+	 */
+	private void siftDown(int k, long key, int handle) {
+		long[] keys = this.keys;
+		int[] handles = this.handles;
+		int half = size >>> 1;
+		while (k < half) {
+			int child = 2 * k + 1;
+			long c = keys[child];
+			int right = child + 1;
+			if (right < size && keys[right] < c) {
+				child = right;
+				c = keys[right];
+			}
+			if (key <= c) {
+				break;
+			}
+			keys[k] = c;
+			handles[k] = handles[child];
+			pos[handles[k]] = k;
+			k = child;
+		}
+		keys[k] = key;
+		handles[k] = handle;
+		pos[handle] = k;
+	}
+}
@@ -0,0 +1,175 @@
+package com.holelin.heap;
+
+import java.util.Arrays;
+
+/**
+ * ClassName: LongMinHeap
+ * 元素为long的小顶堆,不装箱
+ * <p>
+ * 与{@link MaxHeap}相比:
+ * 1. 元素直接存放在long数组中,比较为一次long比较,没有装箱、Array的下标检查和compareTo的虚调用
+ * 2. 上浮/下沉时不交换元素: 先取出待调整的元素,把路径上的元素逐个移入空位(hole),最后一次写入待调整的元素,
+ * 每层一次写入而不是交换的三次
+ * 3. heapify(arr)使用Floyd的自底向上建堆,O(n)
+ * <p>
+ * 由{@link IntMaxHeap}替换类型并反转比较得到,修改时需同步修改;需要修改元素的值或删除任意元素时使用{@link IndexLongMinHeap}
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class LongMinHeap {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private long[] data;
+	private int size;
+
+	public LongMinHeap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public LongMinHeap(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity can't be negative");
+		}
+		data = new long[Math.max(capacity, 1)];
+	}
+
+	/**
+	 * Heapify
+	 * 将数组转换为小顶堆,不修改arr
+	 *
+	 * @param arr 待转换的数组
+	 */
+	public LongMinHeap(long[] arr) {
+		data = new long[Math.max(arr.length, 1)];
+		heapify(arr);
+	}
+
+	/**
+	 * 清空堆,并以arr中的元素重新建堆
+	 * 时间复杂度 : O(n)
+	 *
+	 * @param arr 元素数组,不会被修改
+	 */
+	public void heapify(long[] arr) {
+		if (data.length < arr.length) {
+			data = new long[arr.length];
+		}
+		System.arraycopy(arr, 0, data, 0, arr.length);
+		size = arr.length;
+		// 从最后一个非叶子节点开始向前逐个下沉
+		for (int i = (size >>> 1) - 1; i >= 0; i--) {
+			siftDown(i, data[i]);
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 添加元素e
+	 * 时间复杂度 : O(logn)
+	 *
+	 * @param e 元素e
+	 */
+	public void add(long e) {
+		if (size == data.length) {
+			data = Arrays.copyOf(data, data.length << 1);
+		}
+		siftUp(size++, e);
+	}
+
+	/**
+	 * 查看堆中最小值
+	 *
+	 * @return 堆中最小值
+	 */
+	public long findMin() {
+		if (size == 0) {
+			throw new IllegalArgumentException("Can not findMin when heap is empty.");
+		}
+		return data[0];
+	}
+
+	/**
+	 * 取出堆中最小值
+	 * 时间复杂度 : O(logn)
+	 *
+	 * @return 堆中最小值
+	 */
+	public long extractMin() {
+		long ret = findMin();
+		long last = data[--size];
+		if (size > 0) {
+			siftDown(0, last);
+		}
+		return ret;
+	}
+
+	/**
+	 * 取出堆中的最小元素,并且替换成元素e
+	 *
+	 * @param e 元素e
+	 * @return 最小元素
+	 */
+	public long replace(long e) {
+		long ret = findMin();
+		siftDown(0, e);
+		return ret;
+	}
+
+	/**
+	 * @return 堆中所有元素,按数组顺序(不是出堆顺序)
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(data, size);
+	}
+
+	/**
+	 * 将e放入位置k,并上浮到合适的位置
+	 */
+	private void siftUp(int k, long e) {
+		long[] data = this.data;
+		while (k > 0) {
+			int parent = (k - 1) >>> 1;
+			long p = data[parent];
+			if (p <= e) {
+				break;
+			}
+			data[k] = p;
+			k = parent;
+		}
+		data[k] = e;
+	}
+
+	/**
+	 * 将e放入位置k,并下沉到合适的位置
+	 */
+	private void siftDown(int k, long e) {
+		long[] data = this.data;
+		int half = size >>> 1;
+		// k < half 表示k有孩子
+		while (k < half) {
+			int child = 2 * k + 1;
+			long c = data[child];
+			int right = child + 1;
+			if (right < size && data[right] < c) {
+				child = right;
+				c = data[right];
+			}
+			if (e <= c) {
+				break;
+			}
+			data[k] = c;
+			k = child;
+		}
+		data[k] = e;
+	}
+}
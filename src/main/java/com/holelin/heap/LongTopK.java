@@ -0,0 +1,114 @@
+package com.holelin.heap;
+
+import java.util.Arrays;
+
+/**
+ * ClassName: LongTopK
+ * 元素为long的流式Top-K,保留最大的k个元素,不装箱
+ * <p>
+ * 与{@link TopK}相同,底层为大小为k的{@link LongMinHeap}:
+ * 堆满后新元素不大于堆顶(门槛)时直接丢弃,否则用replace替换堆顶
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class LongTopK {
+	private final int k;
+	private final LongMinHeap heap;
+
+	/**
+	 * @param k 保留的元素个数
+	 */
+	public LongTopK(int k) {
+		if (k <= 0) {
+			throw new IllegalArgumentException("k must be positive");
+		}
+		this.k = k;
+		heap = new LongMinHeap(k);
+	}
+
+	public int getK() {
+		return k;
+	}
+
+	public int size() {
+		return heap.size();
+	}
+
+	/**
+	 * 处理流中的一个元素
+	 *
+	 * @param e 元素e
+	 * @return e是否被保留(之后仍可能被更大的元素挤出)
+	 */
+	public boolean add(long e) {
+		if (heap.size() < k) {
+			heap.add(e);
+			return true;
+		}
+		if (e <= heap.findMin()) {
+			return false;
+		}
+		heap.replace(e);
+		return true;
+	}
+
+	/**
+	 * 处理arr[from, to)中的元素
+	 */
+	public void addAll(long[] arr, int from, int to) {
+		if (from < 0 || from > to || to > arr.length) {
+			throw new IllegalArgumentException("Range [" + from + ", " + to + ") is illegal");
+		}
+		int i = from;
+		for (; i < to && heap.size() < k; i++) {
+			heap.add(arr[i]);
+		}
+		if (i == to) {
+			return;
+		}
+		// 堆已满,门槛只在替换时变化
+		long threshold = heap.findMin();
+		for (; i < to; i++) {
+			long e = arr[i];
+			if (e > threshold) {
+				heap.replace(e);
+				threshold = heap.findMin();
+			}
+		}
+	}
+
+	/**
+	 * 合并另一个LongTopK(例如其他线程的部分结果),other不变
+	 * 时间复杂度 : O(other.size() * logk)
+	 *
+	 * @param other 另一个LongTopK
+	 */
+	public void merge(LongTopK other) {
+		long[] elements = other.heap.toArray();
+		addAll(elements, 0, elements.length);
+	}
+
+	/**
+	 * 当前门槛: 保留的元素中最小的一个,只有比它大的元素才会被保留
+	 */
+	public long threshold() {
+		return heap.findMin();
+	}
+
+	/**
+	 * @return 保留的元素,从大到小
+	 */
+	public long[] toArray() {
+		long[] arr = heap.toArray();
+		Arrays.sort(arr);
+		for (int i = 0, j = arr.length - 1; i < j; i++, j--) {
+			long t = arr[i];
+			arr[i] = arr[j];
+			arr[j] = t;
+		}
+		return arr;
+	}
+}
@@ -5,6 +5,11 @@ import com.holelin.array.Array;
 /**
  * ClassName: MaxHeap
  * 基于数组的大顶推
+ * <p>
+ * 默认为二叉堆,也可以指定为d叉堆(d = 4, 8 ...):
+ * -- 树高为log_d(n),下沉时每层比较d个相邻的孩子,孩子在数组中连续存放,元素很多时每层的缓存未命中更少
+ * -- 上浮只与父亲节点比较,层数越少越快;下沉每层多比较d - 1次
+ * 上浮/下沉都不交换元素,而是把元素移入空位(hole),最后一次写入待调整的元素
  *
  * @author HoleLin
  * @version 1.0
@@ -12,7 +17,13 @@ import com.holelin.array.Array;
  */
 
 public class MaxHeap<E extends Comparable<E>> {
+	private static final int DEFAULT_ARITY = 2;
+
 	private Array<E> data;
+	/**
+	 * 每个节点的孩子个数
+	 */
+	private final int d;
 
 	/**
 	 * Heapify
@@ -20,22 +31,55 @@ public class MaxHeap<E extends Comparable<E>> {
 	 * @param arr 待转换的数组
 	 */
 	public MaxHeap(E[] arr){
-		data=new Array<>(arr);
+		this(arr, DEFAULT_ARITY);
+	}
+
+	/**
+	 * Heapify
+	 * 将数组转换为d叉大顶堆
+	 * @param arr 待转换的数组
+	 * @param d 每个节点的孩子个数
+	 */
+	public MaxHeap(E[] arr, int d) {
+		this.d = checkArity(d);
+		// 空数组时Array(arr)的容量为0,add无法扩容,因此至少分配1个位置
+		data = new Array<>(Math.max(arr.length, 1));
+		for (E e : arr) {
+			data.addLast(e);
+		}
 		// 找到最后一个非叶子节点进行siftDown操作,然后向前推进直至根
-		for (int i = parent(arr.length-1); i >=0 ; i--) {
-			siftDown(i);
+		if (arr.length > 1) {
+			for (int i = parent(arr.length - 1); i >= 0; i--) {
+				siftDown(i);
+			}
 		}
-
 	}
 
 	public MaxHeap(int capacity) {
+		this(capacity, DEFAULT_ARITY);
+	}
+
+	/**
+	 * @param capacity 初始容量
+	 * @param d 每个节点的孩子个数
+	 */
+	public MaxHeap(int capacity, int d) {
+		this.d = checkArity(d);
 		data = new Array<>(capacity);
 	}
 
 	public MaxHeap() {
+		this.d = DEFAULT_ARITY;
 		data = new Array<>();
 	}
 
+	private static int checkArity(int d) {
+		if (d < 2) {
+			throw new IllegalArgumentException("d must be at least 2.");
+		}
+		return d;
+	}
+
 	/**
 	 * 返回堆中的元素个数
 	 *
@@ -55,7 +99,14 @@ public class MaxHeap<E extends Comparable<E>> {
 	}
 
 	/**
-	 * 返回完全二叉树的数组表示中,一个索引所表示的元素的父亲节点的索引
+	 * 每个节点的孩子个数
+	 */
+	public int arity() {
+		return d;
+	}
+
+	/**
+	 * 返回完全d叉树的数组表示中,一个索引所表示的元素的父亲节点的索引
 	 *
 	 * @param index 查找父亲节点的索引
 	 * @return 所查节点的父亲节点的索引
@@ -64,27 +115,18 @@ public class MaxHeap<E extends Comparable<E>> {
 		if (index == 0) {
 			throw new IllegalArgumentException("index-0 doesn't have parent.");
 		}
-		return (index - 1) / 2;
-	}
-
-	/**
-	 * 返回完全二叉树的数组表示中,一个索引表示的元素的左孩子节点的索引
-	 * tips: 索引从0开始
-	 * @param index 查找左孩子节点的索引
-	 * @return 所查节点的左孩子节点的索引
-	 */
-	private int leftChild(int index) {
-		return index * 2 + 1;
+		return (index - 1) / d;
 	}
 
 	/**
-	 * 返回完全二叉树的数组表示中,一个索引表示的元素的右孩子节点的索引
+	 * 返回完全d叉树的数组表示中,一个索引表示的元素的第一个孩子节点的索引,
+	 * 其余孩子依次排在它之后; d = 2时即为左孩子
 	 * tips: 索引从0开始
-	 * @param index 查找右孩子节点的索引
-	 * @return 所查节点的右孩子节点的索引
+	 * @param index 查找孩子节点的索引
+	 * @return 所查节点的第一个孩子节点的索引
 	 */
-	private int rightChild(int index) {
-		return index * 2 + 2;
+	private int firstChild(int index) {
+		return index * d + 1;
 	}
 
 	/**
@@ -105,13 +147,18 @@ public class MaxHeap<E extends Comparable<E>> {
 	 * @param k k索引
 	 */
 	private void siftUp(int k) {
-		// k所在的元素不能小于0 且 父亲元素小于k所在位置的元素
-		while (k > 0 && data.get(parent(k)).compareTo(data.get(k)) < 0) {
-			// k位置上的元素与k元素父亲节点交换位置
-			data.swap(k, parent(k));
-			// 改变k的索引,继续比较
-			k = parent(k);
+		E e = data.get(k);
+		// 父亲元素小于e时,父亲元素移入k,k移到父亲的位置
+		while (k > 0) {
+			int p = parent(k);
+			E parent = data.get(p);
+			if (parent.compareTo(e) >= 0) {
+				break;
+			}
+			data.set(k, parent);
+			k = p;
 		}
+		data.set(k, e);
 	}
 
 	/**
@@ -127,44 +174,72 @@ public class MaxHeap<E extends Comparable<E>> {
 
 	/**
 	 * 取出堆中最大值(删除最大值) -- 需要进行重新构建堆
+	 * 自底向上: 堆顶的空位沿着较大的孩子一直下移到叶子,再把尾部元素放入空位并上浮;
+	 * 尾部元素通常很小,最终位置接近叶子,比逐层与它比较的下沉少一半左右的比较
 	 * @return 堆中最大值
 	 */
 	public E extractMax() {
 		E ret = findMax();
-		// 交换首部和尾部元素
-		data.swap(0, data.getSize() - 1);
 		// 删除尾部元素
-		data.removeLast();
-		// 进行下沉操作
-		siftDown(0);
+		E last = data.removeLast();
+		int size = data.getSize();
+		if (size == 0) {
+			return ret;
+		}
+		int k = 0;
+		int child;
+		while ((child = maxChild(k, size)) >= 0) {
+			data.set(k, data.get(child));
+			k = child;
+		}
+		data.set(k, last);
+		siftUp(k);
 		return ret;
 	}
 
+	/**
+	 * 返回k的孩子中最大的一个的索引
+	 * @param k k索引
+	 * @param size 堆中元素个数
+	 * @return 最大孩子的索引,没有孩子返回-1
+	 */
+	private int maxChild(int k, int size) {
+		int first = firstChild(k);
+		if (first >= size) {
+			return -1;
+		}
+		int end = Math.min(first + d, size);
+		int j = first;
+		E max = data.get(first);
+		for (int i = first + 1; i < end; i++) {
+			E c = data.get(i);
+			if (c.compareTo(max) > 0) {
+				j = i;
+				max = c;
+			}
+		}
+		return j;
+	}
+
 	/**
 	 * 下沉k所在元素
 	 * @param k k索引
 	 */
 	private void siftDown(int k) {
-		while (leftChild(k) < data.getSize()) {
-			// 以下操作: 将k所在位置元素的值与k的左右孩子的值进行比较
-			//          -- 将k所在位置元素的值与其中较大的值进行交换
-			// j保存左右孩子中最大值
-			int j = leftChild(k);
-			// j+1 -- 右孩子所在的位置
-			// j+1<data.getSize() -- 表示存在右孩子
-			if (j + 1 < data.getSize() && data.get(j + 1).compareTo(data.get(j)) > 0) {
-				j = rightChild(k);
-			}
-			// 当k所在元素的值大于左右孩子中最大值 -- 即满足大顶堆结构,则停止操作
-			if (data.get(k).compareTo(data.get(j)) >= 0) {
+		E e = data.get(k);
+		int size = data.getSize();
+		int j;
+		// j保存孩子中最大值的位置;当e不小于孩子中最大值 -- 即满足大顶堆结构,则停止操作
+		while ((j = maxChild(k, size)) >= 0) {
+			E c = data.get(j);
+			if (e.compareTo(c) >= 0) {
 				break;
 			}
-			// 否则交换k和j位置的值
-			data.swap(k, j);
-			// 移动k的索引位置,以便下一次比较
+			// 否则将孩子移入k,移动k的索引位置,以便下一次比较
+			data.set(k, c);
 			k = j;
 		}
-
+		data.set(k, e);
 	}
 
 	/**
@@ -39,6 +39,66 @@ public class MaxHeapTest {
 		double time2 = testHeap(testData, true);
 		System.out.println("isHeapify " + time2 + " s");
 
+		// d叉堆: 随机操作,与java.util.PriorityQueue比对
+		for (int d = 2; d <= 8; d++) {
+			MaxHeap<Integer> heap = new MaxHeap<>(16, d);
+			java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>(16, java.util.Collections.<Integer>reverseOrder());
+			for (int i = 0; i < 500000; i++) {
+				int e = random.nextInt(1000);
+				int op = random.nextInt(3);
+				if (op == 0 || expected.isEmpty()) {
+					heap.add(e);
+					expected.add(e);
+				} else if (op == 1) {
+					if (!heap.extractMax().equals(expected.poll())) {
+						throw new IllegalArgumentException("Error");
+					}
+				} else {
+					if (!heap.replace(e).equals(expected.poll())) {
+						throw new IllegalArgumentException("Error");
+					}
+					expected.add(e);
+				}
+				if (heap.size() != expected.size()) {
+					throw new IllegalArgumentException("Error");
+				}
+			}
+			heap = new MaxHeap<>(testData.clone(), d);
+			for (int i = 1; i < n; i++) {
+				Integer max = heap.extractMax();
+				if (max < heap.findMax()) {
+					throw new IllegalArgumentException("Error");
+				}
+			}
+		}
+		// 以空数组建堆后仍可以添加元素
+		for (int d = 2; d <= 8; d++) {
+			MaxHeap<Integer> heap = d == 2 ? new MaxHeap<>(new Integer[0]) : new MaxHeap<>(new Integer[0], d);
+			for (int i = 0; i < 100; i++) {
+				heap.add(i);
+				if (heap.findMax() != i || heap.size() != i + 1) {
+					throw new IllegalArgumentException("Error");
+				}
+			}
+		}
+		System.out.println("Test d-ary MaxHeap completed.");
+		for (int d = 2; d <= 8; d <<= 1) {
+			System.out.println("d = " + d + ": " + testMixed(testData, d) + " s");
+		}
+	}
+
+	/**
+	 * 混合操作: 堆中保持n个元素,每次操作为一次extractMax加一次add
+	 */
+	private static double testMixed(Integer[] testData, int d) {
+		MaxHeap<Integer> maxHeap = new MaxHeap<>(testData.clone(), d);
+		long startTime = System.nanoTime();
+		for (int i = 0; i < testData.length; i++) {
+			maxHeap.extractMax();
+			maxHeap.add(testData[i]);
+		}
+		long endTime = System.nanoTime();
+		return (endTime - startTime) / 1000000000.0;
 	}
 
 	private static double testHeap(Integer[] testData, boolean isHeapify) {
@@ -66,6 +126,6 @@ public class MaxHeapTest {
 		System.out.println("Test MaxHeap completed.");
 
 		long endTime = System.nanoTime();
-		return (endTime - startTime) / 100000000.0;
+		return (endTime - startTime) / 1000000000.0;
 	}
 }
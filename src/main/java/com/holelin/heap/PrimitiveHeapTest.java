@@ -0,0 +1,209 @@
+package com.holelin.heap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * ClassName: PrimitiveHeapTest
+ * IntMaxHeap、LongMinHeap和IndexLongMinHeap测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class PrimitiveHeapTest {
+	public static void main(String[] args) {
+		// 随机操作,与java.util.PriorityQueue比对
+		Random random = new Random();
+		IntMaxHeap intHeap = new IntMaxHeap();
+		LongMinHeap longHeap = new LongMinHeap();
+		PriorityQueue<Integer> maxExpected = new PriorityQueue<>(16, Collections.<Integer>reverseOrder());
+		PriorityQueue<Long> minExpected = new PriorityQueue<>();
+		for (int i = 0; i < 2000000; i++) {
+			int e = random.nextInt(10000) - 5000;
+			switch (random.nextInt(3)) {
+				case 0:
+					intHeap.add(e);
+					longHeap.add(e);
+					maxExpected.add(e);
+					minExpected.add((long) e);
+					break;
+				case 1:
+					if (!maxExpected.isEmpty()) {
+						if (intHeap.extractMax() != maxExpected.poll() || longHeap.extractMin() != minExpected.poll()) {
+							throw new IllegalArgumentException("Error");
+						}
+					}
+					break;
+				default:
+					if (!maxExpected.isEmpty()) {
+						if (intHeap.replace(e) != maxExpected.poll() || longHeap.replace(e) != minExpected.poll()) {
+							throw new IllegalArgumentException("Error");
+						}
+						maxExpected.add(e);
+						minExpected.add((long) e);
+					}
+			}
+			if (intHeap.size() != maxExpected.size() || longHeap.size() != minExpected.size()) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		int n = 1000000;
+		int[] ints = new int[n];
+		long[] longs = new long[n];
+		for (int i = 0; i < n; i++) {
+			ints[i] = random.nextInt();
+			longs[i] = random.nextLong();
+		}
+		intHeap = new IntMaxHeap(ints);
+		longHeap = new LongMinHeap(longs);
+		for (int i = 1; i < n; i++) {
+			int prevInt = intHeap.extractMax();
+			long prevLong = longHeap.extractMin();
+			if (prevInt < intHeap.findMax() || prevLong > longHeap.findMin()) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		System.out.println("Test IntMaxHeap and LongMinHeap completed.");
+
+		// 索引堆: handle -> key 和 key -> 个数 两个映射作为对照
+		IndexLongMinHeap indexHeap = new IndexLongMinHeap();
+		HashMap<Integer, Long> keyOf = new HashMap<>();
+		TreeMap<Long, Integer> counts = new TreeMap<>();
+		// 分配过的最大句柄 + 1
+		int handleBound = 0;
+		for (int i = 0; i < 2000000; i++) {
+			long key = random.nextInt(100000);
+			int op = random.nextInt(6);
+			if (op <= 1 || keyOf.isEmpty()) {
+				int handle = indexHeap.add(key);
+				if (keyOf.put(handle, key) != null) {
+					throw new IllegalArgumentException("Error");
+				}
+				increment(counts, key, 1);
+				handleBound = Math.max(handleBound, handle + 1);
+				continue;
+			}
+			if (op == 2) {
+				int handle = indexHeap.findMinHandle();
+				long min = indexHeap.extractMin();
+				if (min != counts.firstKey() || keyOf.remove(handle) != min || indexHeap.contains(handle)) {
+					throw new IllegalArgumentException("Error");
+				}
+				increment(counts, min, -1);
+				continue;
+			}
+			// 随机挑一个存在的句柄
+			int handle;
+			do {
+				handle = random.nextInt(handleBound);
+			} while (!keyOf.containsKey(handle));
+			if (!indexHeap.contains(handle)) {
+				throw new IllegalArgumentException("Error");
+			}
+			long old = keyOf.get(handle);
+			if (indexHeap.key(handle) != old) {
+				throw new IllegalArgumentException("Error");
+			}
+			if (op == 3) {
+				if (indexHeap.remove(handle) != old) {
+					throw new IllegalArgumentException("Error");
+				}
+				keyOf.remove(handle);
+				increment(counts, old, -1);
+				continue;
+			}
+			long newKey = op == 4 ? Math.min(old, key) : Math.max(old, key);
+			if (op == 4) {
+				indexHeap.decreaseKey(handle, newKey);
+			} else {
+				indexHeap.increaseKey(handle, newKey);
+			}
+			keyOf.put(handle, newKey);
+			increment(counts, old, -1);
+			increment(counts, newKey, 1);
+			if (indexHeap.size() != keyOf.size() || (!counts.isEmpty() && indexHeap.findMin() != counts.firstKey())) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		indexHeap.heapify(longs);
+		for (int i = 0; i < n; i += 3) {
+			indexHeap.remove(i);
+		}
+		long prev = Long.MIN_VALUE;
+		while (!indexHeap.isEmpty()) {
+			int handle = indexHeap.findMinHandle();
+			long min = indexHeap.extractMin();
+			if (handle % 3 == 0 || longs[handle] != min || min < prev) {
+				throw new IllegalArgumentException("Error");
+			}
+			prev = min;
+		}
+		System.out.println("Test IndexLongMinHeap completed.");
+
+		// 1000万个元素: 建堆后全部取出
+		n = 10000000;
+		longs = new long[n];
+		for (int i = 0; i < n; i++) {
+			longs[i] = random.nextLong();
+		}
+		Long[] boxed = new Long[n];
+		for (int i = 0; i < n; i++) {
+			boxed[i] = longs[i];
+		}
+		long startTime = System.nanoTime();
+		MaxHeap<Long> maxHeap = new MaxHeap<>(boxed);
+		long heapifiedTime = System.nanoTime();
+		while (!maxHeap.isEmpty()) {
+			maxHeap.extractMax();
+		}
+		long endTime = System.nanoTime();
+		System.out.println("MaxHeap<Long>: heapify " + (heapifiedTime - startTime) / 1000000000.0
+				+ " s, extract all " + (endTime - heapifiedTime) / 1000000000.0 + " s");
+		maxHeap = null;
+		boxed = null;
+
+		startTime = System.nanoTime();
+		longHeap = new LongMinHeap(longs);
+		heapifiedTime = System.nanoTime();
+		while (!longHeap.isEmpty()) {
+			longHeap.extractMin();
+		}
+		endTime = System.nanoTime();
+		System.out.println("LongMinHeap: heapify " + (heapifiedTime - startTime) / 1000000000.0
+				+ " s, extract all " + (endTime - heapifiedTime) / 1000000000.0 + " s");
+
+		startTime = System.nanoTime();
+		longHeap = new LongMinHeap(n);
+		for (long e : longs) {
+			longHeap.add(e);
+		}
+		endTime = System.nanoTime();
+		System.out.println("LongMinHeap: add one by one " + (endTime - startTime) / 1000000000.0 + " s");
+
+		startTime = System.nanoTime();
+		indexHeap = new IndexLongMinHeap(n);
+		indexHeap.heapify(longs);
+		heapifiedTime = System.nanoTime();
+		while (!indexHeap.isEmpty()) {
+			indexHeap.extractMin();
+		}
+		endTime = System.nanoTime();
+		System.out.println("IndexLongMinHeap: heapify " + (heapifiedTime - startTime) / 1000000000.0
+				+ " s, extract all " + (endTime - heapifiedTime) / 1000000000.0 + " s");
+	}
+
+	private static void increment(TreeMap<Long, Integer> counts, long key, int delta) {
+		Integer count = counts.get(key);
+		int newCount = (count == null ? 0 : count) + delta;
+		if (newCount == 0) {
+			counts.remove(key);
+		} else {
+			counts.put(key, newCount);
+		}
+	}
+}
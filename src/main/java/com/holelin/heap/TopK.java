@@ -0,0 +1,97 @@
+package com.holelin.heap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * ClassName: TopK
+ * 流式Top-K: 在任意长度的元素流中保留comparator意义下最大的k个元素,占用O(k)内存
+ * <p>
+ * 1. 用大小为k的{@link ComparatorHeap}保存当前最大的k个元素,堆顶为其中最小的一个(门槛)
+ * 2. 堆未满时直接放入;堆满后新元素不大于门槛则直接丢弃(一次比较),否则用replace替换门槛,O(logk)
+ * 流很长时绝大多数元素都在第一次比较时被丢弃
+ * 3. 非线程安全: 多线程时每个线程使用自己的TopK,最后用merge合并
+ * 4. 需要最小的k个时传入反转的comparator
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class TopK<E> {
+	private final int k;
+	private final Comparator<? super E> comparator;
+	private final ComparatorHeap<E> heap;
+
+	/**
+	 * @param k          保留的元素个数
+	 * @param comparator 元素的比较器
+	 */
+	public TopK(int k, Comparator<? super E> comparator) {
+		if (k <= 0) {
+			throw new IllegalArgumentException("k must be positive");
+		}
+		this.k = k;
+		this.comparator = comparator;
+		heap = new ComparatorHeap<>(comparator, false, 4);
+	}
+
+	public int getK() {
+		return k;
+	}
+
+	public int size() {
+		return heap.size();
+	}
+
+	/**
+	 * 处理流中的一个元素
+	 *
+	 * @param e 元素e
+	 * @return e是否被保留(之后仍可能被更大的元素挤出)
+	 */
+	public boolean add(E e) {
+		if (heap.size() < k) {
+			heap.add(e);
+			return true;
+		}
+		if (comparator.compare(e, heap.findMin()) <= 0) {
+			return false;
+		}
+		heap.replace(e);
+		return true;
+	}
+
+	/**
+	 * 合并另一个TopK(例如其他线程的部分结果),other不变
+	 * 时间复杂度 : O(other.size() * logk)
+	 *
+	 * @param other 另一个TopK
+	 */
+	public void merge(TopK<? extends E> other) {
+		for (int i = 0; i < other.heap.size(); i++) {
+			add(other.heap.get(i));
+		}
+	}
+
+	/**
+	 * 当前门槛: 保留的元素中最小的一个,只有比它大的元素才会被保留
+	 */
+	public E threshold() {
+		return heap.findMin();
+	}
+
+	/**
+	 * @return 保留的元素,从大到小
+	 */
+	public List<E> toList() {
+		List<E> list = new ArrayList<>(heap.size());
+		for (int i = 0; i < heap.size(); i++) {
+			list.add(heap.get(i));
+		}
+		Collections.sort(list, Collections.reverseOrder(comparator));
+		return list;
+	}
+}
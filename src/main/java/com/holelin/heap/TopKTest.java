@@ -0,0 +1,146 @@
+package com.holelin.heap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ClassName: TopKTest
+ * TopK和LongTopK测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class TopKTest {
+	private static final Comparator<Long> NATURAL = new Comparator<Long>() {
+		@Override
+		public int compare(Long a, Long b) {
+			return Long.compare(a, b);
+		}
+	};
+
+	public static void main(String[] args) throws InterruptedException {
+		// 随机的流,与排序后取前k个对比
+		Random random = new Random();
+		for (int t = 0; t < 2000; t++) {
+			int n = random.nextInt(5000);
+			int k = 1 + random.nextInt(200);
+			long[] stream = new long[n];
+			for (int i = 0; i < n; i++) {
+				stream[i] = random.nextInt(1000);
+			}
+			TopK<Long> topK = new TopK<>(k, NATURAL);
+			LongTopK longTopK = new LongTopK(k);
+			for (long e : stream) {
+				topK.add(e);
+				longTopK.add(e);
+			}
+			check(stream, k, topK, longTopK.toArray());
+		}
+		System.out.println("Test TopK completed.");
+
+		// 多线程: 每个线程处理流的一段,最后合并
+		int n = 20000000;
+		final int k = 1000;
+		final long[] stream = new long[n];
+		for (int i = 0; i < n; i++) {
+			stream[i] = random.nextLong();
+		}
+		int threads = 4;
+		final LongTopK[] partial = new LongTopK[threads];
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			final int id = t;
+			final int from = (int) ((long) n * t / threads);
+			final int to = (int) ((long) n * (t + 1) / threads);
+			workers[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					partial[id] = new LongTopK(k);
+					partial[id].addAll(stream, from, to);
+				}
+			});
+			workers[t].start();
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		LongTopK merged = new LongTopK(k);
+		for (LongTopK p : partial) {
+			merged.merge(p);
+		}
+		long[] sorted = stream.clone();
+		long startTime = System.nanoTime();
+		Arrays.sort(sorted);
+		long endTime = System.nanoTime();
+		double sortTime = (endTime - startTime) / 1000000000.0;
+		long[] top = merged.toArray();
+		for (int i = 0; i < k; i++) {
+			if (top[i] != sorted[n - 1 - i]) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		System.out.println("Test LongTopK merge completed.");
+
+		// 单线程: 从2000万个数中取前1000个
+		startTime = System.nanoTime();
+		LongTopK longTopK = new LongTopK(k);
+		longTopK.addAll(stream, 0, n);
+		endTime = System.nanoTime();
+		double time1 = (endTime - startTime) / 1000000000.0;
+
+		startTime = System.nanoTime();
+		TopK<Long> topK = new TopK<>(k, NATURAL);
+		for (long e : stream) {
+			topK.add(e);
+		}
+		endTime = System.nanoTime();
+		double time2 = (endTime - startTime) / 1000000000.0;
+		if (longTopK.threshold() != sorted[n - k] || topK.threshold() != sorted[n - k]) {
+			throw new IllegalArgumentException("Error");
+		}
+		System.out.println("Top-" + k + " of " + n + " -- LongTopK: " + time1 + " s, TopK<Long>: " + time2
+				+ " s, Arrays.sort: " + sortTime + " s");
+	}
+
+	private static void check(long[] stream, int k, TopK<Long> topK, long[] longTop) {
+		long[] sorted = stream.clone();
+		Arrays.sort(sorted);
+		int size = Math.min(k, stream.length);
+		List<Long> list = topK.toList();
+		if (list.size() != size || longTop.length != size || topK.size() != size) {
+			throw new IllegalArgumentException("Error");
+		}
+		for (int i = 0; i < size; i++) {
+			long expected = sorted[sorted.length - 1 - i];
+			if (list.get(i) != expected || longTop[i] != expected) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		// 合并两半与整体结果相同
+		TopK<Long> left = new TopK<>(k, NATURAL);
+		TopK<Long> right = new TopK<>(k, NATURAL);
+		for (int i = 0; i < stream.length; i++) {
+			(i % 2 == 0 ? left : right).add(stream[i]);
+		}
+		left.merge(right);
+		if (!left.toList().equals(list)) {
+			throw new IllegalArgumentException("Error");
+		}
+		// 反转comparator即为最小的k个
+		TopK<Long> bottom = new TopK<>(k, Collections.reverseOrder(NATURAL));
+		for (long e : stream) {
+			bottom.add(e);
+		}
+		List<Long> bottomList = bottom.toList();
+		for (int i = 0; i < size; i++) {
+			if (bottomList.get(i) != sorted[i]) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+	}
+}
@@ -0,0 +1,256 @@
+package com.holelin.map;
+
+/**
+ * ClassName: IntIntHashMap
+ * 键和值都是int的哈希表,不装箱
+ * <p>
+ * 1. 开放地址法,线性探测,键和值存放在两个平行的int数组中,每个元素占8字节(装载因子0.75时约11字节)
+ * 2. 键为0表示空位置;键0本身单独存放在hasZeroKey/zeroValue中
+ * 3. 容量为2的幂,键经过混淆后取低位作为索引
+ * 4. 删除时将后续元素前移(backward shift),不使用墓碑标记
+ * 5. 不存在的键,get返回0,用contains区分
+ * <p>
+ * {@link LongLongHashMap}由本类替换类型得到,修改时需同步修改
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class IntIntHashMap {
+	/**
+	 * 空位置的标记
+	 */
+	private static final int EMPTY = 0;
+	private static final int MIN_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.75f;
+	/**
+	 * 数组长度的上限,再翻倍会溢出
+	 */
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final int MAX_SIZE = (int) (MAX_CAPACITY * LOAD_FACTOR);
+
+	private int[] keys;
+	private int[] values;
+	private int mask;
+	/**
+	 * 不包括键0
+	 */
+	private int size;
+	private int threshold;
+
+	private boolean hasZeroKey;
+	private int zeroValue;
+
+	public IntIntHashMap() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize 预计的元素个数,避免扩容
+	 */
+	public IntIntHashMap(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("expectedSize can't be negative");
+		}
+		if (expectedSize > MAX_SIZE) {
+			throw new IllegalArgumentException("expectedSize is out of bound");
+		}
+		int capacity = MIN_CAPACITY;
+		while (capacity * LOAD_FACTOR < expectedSize) {
+			capacity <<= 1;
+		}
+		allocate(capacity);
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new int[capacity];
+		mask = capacity - 1;
+		threshold = (int) (capacity * LOAD_FACTOR);
+	}
+
+	/**
+	 * 混淆key,使取低位作为索引时分布均匀
+	 */
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * 查找key所在位置
+	 *
+	 * @return key所在位置;不存在时返回-(插入位置 + 1)
+	 */
+	private int indexOf(int key) {
+		int index = hash(key) & mask;
+		while (true) {
+			int k = keys[index];
+			if (k == EMPTY) {
+				return -(index + 1);
+			}
+			if (k == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	public int getSize() {
+		return hasZeroKey ? size + 1 : size;
+	}
+
+	public boolean isEmpty() {
+		return getSize() == 0;
+	}
+
+	/**
+	 * 添加或覆盖元素
+	 *
+	 * @param key   键
+	 * @param value 值
+	 */
+	public void add(int key, int value) {
+		if (key == EMPTY) {
+			hasZeroKey = true;
+			zeroValue = value;
+			return;
+		}
+		int index = indexOf(key);
+		if (index >= 0) {
+			values[index] = value;
+			return;
+		}
+		insertAt(-index - 1, key, value);
+	}
+
+	/**
+	 * 将key对应的值加上delta,key不存在时视为0
+	 * -- 计数场景下一次探测即可完成,不需要contains + get + set
+	 *
+	 * @param key   键
+	 * @param delta 增量
+	 * @return 相加后的值
+	 */
+	public int addTo(int key, int delta) {
+		if (key == EMPTY) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				zeroValue = 0;
+			}
+			return zeroValue += delta;
+		}
+		int index = indexOf(key);
+		if (index >= 0) {
+			return values[index] += delta;
+		}
+		insertAt(-index - 1, key, delta);
+		return delta;
+	}
+
+	private void insertAt(int index, int key, int value) {
+		if (size == threshold && keys.length == MAX_CAPACITY) {
+			throw new IllegalArgumentException("map is full");
+		}
+		keys[index] = key;
+		values[index] = value;
+		if (++size > threshold) {
+			resize(keys.length << 1);
+		}
+	}
+
+	private void resize(int newCapacity) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(newCapacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			int k = oldKeys[i];
+			if (k != EMPTY) {
+				int index = hash(k) & mask;
+				while (keys[index] != EMPTY) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = k;
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * 删除key
+	 *
+	 * @param key 键
+	 * @return 被删除的值,不存在返回0
+	 */
+	public int remove(int key) {
+		if (key == EMPTY) {
+			int ret = hasZeroKey ? zeroValue : 0;
+			hasZeroKey = false;
+			zeroValue = 0;
+			return ret;
+		}
+		int index = indexOf(key);
+		if (index < 0) {
+			return 0;
+		}
+		int ret = values[index];
+		// 将后续不在理想位置上的元素前移,填补空出的位置
+		int hole = index;
+		int next = (hole + 1) & mask;
+		while (keys[next] != EMPTY) {
+			int ideal = hash(keys[next]) & mask;
+			// ideal不在(hole, next]之间时,元素可以移动到hole
+			if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+				keys[hole] = keys[next];
+				values[hole] = values[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[hole] = EMPTY;
+		values[hole] = 0;
+		size--;
+		return ret;
+	}
+
+	public boolean contains(int key) {
+		if (key == EMPTY) {
+			return hasZeroKey;
+		}
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * @param key 键
+	 * @return key对应的值,不存在返回0
+	 */
+	public int get(int key) {
+		if (key == EMPTY) {
+			return hasZeroKey ? zeroValue : 0;
+		}
+		int index = indexOf(key);
+		return index >= 0 ? values[index] : 0;
+	}
+
+	/**
+	 * 修改key对应的值
+	 *
+	 * @param key   键
+	 * @param value 值
+	 */
+	public void set(int key, int value) {
+		if (key == EMPTY) {
+			if (!hasZeroKey) {
+				throw new IllegalArgumentException(key + " doesn't exist!");
+			}
+			zeroValue = value;
+			return;
+		}
+		int index = indexOf(key);
+		if (index < 0) {
+			throw new IllegalArgumentException(key + " doesn't exist!");
+		}
+		values[index] = value;
+	}
+}
@@ -0,0 +1,120 @@
+package com.holelin.map;
+
+import com.holelin.tree.HashTable;
+
+import java.util.Random;
+
+/**
+ * ClassName: PrimitiveMapTest
+ * IntIntHashMap和LongLongHashMap测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class PrimitiveMapTest {
+	public static void main(String[] args) {
+		// 随机操作,与java.util.HashMap比对,键的范围包含0和负数
+		IntIntHashMap intMap = new IntIntHashMap();
+		LongLongHashMap longMap = new LongLongHashMap();
+		java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+		Random random = new Random();
+		for (int i = 0; i < 2000000; i++) {
+			int key = random.nextInt(20000) - 10000;
+			switch (random.nextInt(4)) {
+				case 0:
+					intMap.add(key, i);
+					longMap.add(key, i);
+					expected.put(key, i);
+					break;
+				case 1:
+					Integer old = expected.remove(key);
+					int removed = old == null ? 0 : old;
+					if (intMap.remove(key) != removed || longMap.remove(key) != removed) {
+						throw new IllegalArgumentException("Error");
+					}
+					break;
+				case 2:
+					old = expected.get(key);
+					int sum = (old == null ? 0 : old) + 3;
+					expected.put(key, sum);
+					if (intMap.addTo(key, 3) != sum || longMap.addTo(key, 3) != sum) {
+						throw new IllegalArgumentException("Error");
+					}
+					break;
+				default:
+					old = expected.get(key);
+					int value = old == null ? 0 : old;
+					if (intMap.get(key) != value || longMap.get(key) != value
+							|| intMap.contains(key) != expected.containsKey(key)
+							|| longMap.contains(key) != expected.containsKey(key)) {
+						throw new IllegalArgumentException("Error");
+					}
+			}
+			if (intMap.getSize() != expected.size() || longMap.getSize() != expected.size()) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		// 超过上限的expectedSize直接拒绝,而不是在计算容量时溢出
+		try {
+			new IntIntHashMap(Integer.MAX_VALUE);
+			throw new IllegalStateException("Error");
+		} catch (IllegalArgumentException ignored) {
+		}
+		try {
+			new LongLongHashMap(Integer.MAX_VALUE);
+			throw new IllegalStateException("Error");
+		} catch (IllegalArgumentException ignored) {
+		}
+		System.out.println("Test IntIntHashMap and LongLongHashMap completed.");
+
+		// 计数场景: n个随机键,每个键平均出现4次
+		int n = 4000000;
+		int[] data = new int[n];
+		for (int i = 0; i < n; i++) {
+			data[i] = random.nextInt(n / 4);
+		}
+		for (int round = 0; round < 3; round++) {
+			long before = usedMemory();
+			long startTime = System.nanoTime();
+			HashTable<Integer, Integer> hashTable = new HashTable<>();
+			for (int key : data) {
+				Integer count = hashTable.get(key);
+				if (count == null) {
+					hashTable.add(key, 1);
+				} else {
+					hashTable.set(key, count + 1);
+				}
+			}
+			long endTime = System.nanoTime();
+			long bytes = usedMemory() - before;
+			System.out.println("HashTable<Integer,Integer>: " + (endTime - startTime) / 1000000000.0 + " s, "
+					+ bytes / hashTable.getSize() + " bytes/entry");
+			hashTable = null;
+
+			before = usedMemory();
+			startTime = System.nanoTime();
+			IntIntHashMap intIntHashMap = new IntIntHashMap();
+			for (int key : data) {
+				intIntHashMap.addTo(key, 1);
+			}
+			endTime = System.nanoTime();
+			bytes = usedMemory() - before;
+			System.out.println("IntIntHashMap: " + (endTime - startTime) / 1000000000.0 + " s, "
+					+ bytes / intIntHashMap.getSize() + " bytes/entry");
+			intIntHashMap = null;
+		}
+	}
+
+	/**
+	 * 触发GC后返回已使用的堆内存
+	 */
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -1,9 +1,10 @@
 package com.holelin.queue;
 
-import com.holelin.array.Array;
+import com.holelin.array.ArrayDeque;
 
 /**
  * ClassName: ArrayQueue
+ * 基于循环数组{@link ArrayDeque}的队列,入队、出队均摊O(1)
  *
  * @author HoleLin
  * @version 1.0
@@ -11,14 +12,14 @@ import com.holelin.array.Array;
  */
 
 public class ArrayQueue<E> implements Queue<E> {
-    private Array<E> mArray;
+    private ArrayDeque<E> mArray;
 
     public ArrayQueue(int capacity) {
-        mArray = new Array<>(capacity);
+        mArray = new ArrayDeque<>(capacity);
     }
 
     public ArrayQueue() {
-        mArray = new Array<>();
+        mArray = new ArrayDeque<>();
     }
 
     @Override
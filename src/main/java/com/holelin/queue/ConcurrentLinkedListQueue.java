@@ -0,0 +1,316 @@
+package com.holelin.queue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ClassName: ConcurrentLinkedListQueue
+ * 线程安全的无锁链表队列 -- Michael-Scott queue,节点循环使用
+ * <p>
+ * 1. 与{@link LinkedListQueue}相同,带一个虚拟头结点,head指向虚拟头结点,tail指向最后一个节点;
+ * 入队CAS最后一个节点的next,出队CAS head,tail落后时由任意线程帮助推进
+ * 2. 节点不是对象,而是分块数组(Chunk)中的下标,出队后被回收,入队时优先复用,稳定状态下不产生垃圾
+ * 3. 节点会被复用,直接CAS引用会出现ABA问题(线程读到的节点被回收后又回到原位,过期的CAS却成功了),
+ * 所以head、tail和每个节点的next都是"计数指针": 高32位为版本号,低32位为节点下标,每次修改版本号加一
+ * (即Michael &amp; Scott论文中的counted pointer)
+ * 4. 回收的节点先放入当前线程的本地池(ThreadLocal),本地池满了再放入全局的无锁栈(同样使用计数指针);
+ * 生产者和消费者不是同一批线程时,节点经全局栈从消费者流回生产者
+ * 5. 节点下标0表示null,从1开始分配;节点总数不超过2^28
+ * 6. 出队的元素由新的虚拟头结点继续引用,直到下一次出队,最多多保留一个元素
+ * 7. 不维护共享的计数器(每次入队出队都修改它会让所有线程争用同一个缓存行),getSize遍历链表,O(n)
+ * 8. 分块目录按需扩容,空队列只有一个分块
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentLinkedListQueue<E> implements Queue<E> {
+    private static final int NIL = 0;
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNKS = 16;
+    private static final int MAX_CHUNKS = 1 << 16;
+    /**
+     * 本地池的容量
+     */
+    private static final int LOCAL_POOL_SIZE = 64;
+
+    /**
+     * 一块节点: next为计数指针,value为元素,freeNext为全局空闲栈中的下一个节点
+     */
+    private static final class Chunk {
+        final AtomicLongArray next = new AtomicLongArray(CHUNK_SIZE);
+        final Object[] values = new Object[CHUNK_SIZE];
+        final int[] freeNext = new int[CHUNK_SIZE];
+    }
+
+    /**
+     * 线程的本地节点池
+     */
+    private static final class LocalPool {
+        final int[] nodes = new int[LOCAL_POOL_SIZE];
+        int size;
+    }
+
+    /**
+     * 分块目录,只在addChunk中(持有锁时)扩容或放入新的分块
+     */
+    private volatile AtomicReferenceArray<Chunk> chunks = new AtomicReferenceArray<>(INITIAL_CHUNKS);
+    /**
+     * 下一个从未使用过的节点下标
+     */
+    private final AtomicInteger nextIndex = new AtomicInteger(1);
+
+    private final AtomicLong head;
+    private final AtomicLong tail;
+    /**
+     * 全局空闲栈的栈顶,计数指针
+     */
+    private final AtomicLong freeTop = new AtomicLong(pack(0, NIL));
+
+    private final ThreadLocal<LocalPool> localPool = new ThreadLocal<LocalPool>() {
+        @Override
+        protected LocalPool initialValue() {
+            return new LocalPool();
+        }
+    };
+
+    public ConcurrentLinkedListQueue() {
+        int dummy = newNode();
+        head = new AtomicLong(pack(0, dummy));
+        tail = new AtomicLong(pack(0, dummy));
+    }
+
+    private static long pack(int stamp, int index) {
+        return ((long) stamp << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    private static int stamp(long pointer) {
+        return (int) (pointer >>> 32);
+    }
+
+    private static int index(long pointer) {
+        return (int) pointer;
+    }
+
+    /**
+     * 版本号加一,指向index
+     */
+    private static long next(long pointer, int index) {
+        return pack(stamp(pointer) + 1, index);
+    }
+
+    private Chunk chunk(int node) {
+        return chunks.get(node >>> CHUNK_SHIFT);
+    }
+
+    /**
+     * 分配一个从未使用过的节点
+     */
+    private int newNode() {
+        int node = nextIndex.getAndIncrement();
+        int c = node >>> CHUNK_SHIFT;
+        if (c >= MAX_CHUNKS) {
+            throw new IllegalArgumentException("Queue is full");
+        }
+        AtomicReferenceArray<Chunk> chunks = this.chunks;
+        if (c >= chunks.length() || chunks.get(c) == null) {
+            addChunk(c);
+        }
+        return node;
+    }
+
+    /**
+     * 放入第c个分块,目录不够大时先扩容;
+     * 其他线程拿到该分块中的节点下标之前,分块已经在目录中
+     */
+    private synchronized void addChunk(int c) {
+        AtomicReferenceArray<Chunk> chunks = this.chunks;
+        if (c >= chunks.length()) {
+            int length = chunks.length();
+            while (length <= c) {
+                length <<= 1;
+            }
+            AtomicReferenceArray<Chunk> grown = new AtomicReferenceArray<>(Math.min(length, MAX_CHUNKS));
+            for (int i = 0; i < chunks.length(); i++) {
+                grown.set(i, chunks.get(i));
+            }
+            chunks = grown;
+        }
+        if (chunks.get(c) == null) {
+            chunks.set(c, new Chunk());
+        }
+        this.chunks = chunks;
+    }
+
+    /**
+     * 取一个节点: 本地池 -> 全局空闲栈 -> 新节点
+     */
+    private int allocate() {
+        LocalPool pool = localPool.get();
+        if (pool.size > 0) {
+            return pool.nodes[--pool.size];
+        }
+        while (true) {
+            long top = freeTop.get();
+            int node = index(top);
+            if (node == NIL) {
+                return newNode();
+            }
+            // node可能已被其他线程弹出并重新压入,此时读到的freeNext无效,但版本号不同,CAS会失败
+            int below = chunk(node).freeNext[node & CHUNK_MASK];
+            if (freeTop.compareAndSet(top, next(top, below))) {
+                return node;
+            }
+        }
+    }
+
+    /**
+     * 回收节点: 本地池满了则压入全局空闲栈
+     */
+    private void release(int node) {
+        LocalPool pool = localPool.get();
+        if (pool.size < LOCAL_POOL_SIZE) {
+            pool.nodes[pool.size++] = node;
+            return;
+        }
+        int[] freeNext = chunk(node).freeNext;
+        while (true) {
+            long top = freeTop.get();
+            freeNext[node & CHUNK_MASK] = index(top);
+            if (freeTop.compareAndSet(top, next(top, node))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void enqueue(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("element can't be null");
+        }
+        int node = allocate();
+        Chunk c = chunk(node);
+        int offset = node & CHUNK_MASK;
+        c.values[offset] = e;
+        // 重置next时也增加版本号,持有过期next值的线程CAS会失败
+        c.next.set(offset, next(c.next.get(offset), NIL));
+        while (true) {
+            long t = tail.get();
+            int last = index(t);
+            Chunk lc = chunk(last);
+            long next = lc.next.get(last & CHUNK_MASK);
+            if (t != tail.get()) {
+                continue;
+            }
+            if (index(next) == NIL) {
+                if (lc.next.compareAndSet(last & CHUNK_MASK, next, next(next, node))) {
+                    tail.compareAndSet(t, next(t, node));
+                    return;
+                }
+            } else {
+                // tail落后,帮助推进
+                tail.compareAndSet(t, next(t, index(next)));
+            }
+        }
+    }
+
+    /**
+     * 非阻塞出队
+     *
+     * @return 队头元素,队列为空返回null
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        while (true) {
+            long h = head.get();
+            long t = tail.get();
+            int dummy = index(h);
+            long next = chunk(dummy).next.get(dummy & CHUNK_MASK);
+            if (h != head.get()) {
+                continue;
+            }
+            int first = index(next);
+            if (dummy == index(t)) {
+                if (first == NIL) {
+                    return null;
+                }
+                tail.compareAndSet(t, next(t, first));
+                continue;
+            }
+            Chunk fc = chunk(first);
+            // 先读取元素再CAS:CAS成功说明first在此期间没有被回收,读到的元素有效
+            Object value = fc.values[first & CHUNK_MASK];
+            if (head.compareAndSet(h, next(h, first))) {
+                // first成为新的虚拟头结点,元素在它被回收时才清空:
+                // 此时清空可能与其他线程对first的回收、复用交错,覆盖掉新写入的元素
+                Chunk dc = chunk(dummy);
+                dc.values[dummy & CHUNK_MASK] = null;
+                release(dummy);
+                return (E) value;
+            }
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        E ret = poll();
+        if (ret == null) {
+            throw new IllegalArgumentException("Cannot dequeue form an empty queue");
+        }
+        return ret;
+    }
+
+    /**
+     * 并发出队时返回的可能已经被其他线程取走
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getFront() {
+        while (true) {
+            long h = head.get();
+            int dummy = index(h);
+            int first = index(chunk(dummy).next.get(dummy & CHUNK_MASK));
+            if (first == NIL) {
+                throw new IllegalArgumentException("Queue is empty");
+            }
+            Object value = chunk(first).values[first & CHUNK_MASK];
+            if (h == head.get() && value != null) {
+                return (E) value;
+            }
+        }
+    }
+
+    /**
+     * 从虚拟头结点开始遍历链表计数
+     * 时间复杂度 : O(n)
+     * 并发修改时为近似值
+     */
+    @Override
+    public int getSize() {
+        int size = 0;
+        int node = index(head.get());
+        while (true) {
+            node = index(chunk(node).next.get(node & CHUNK_MASK));
+            if (node == NIL || size == Integer.MAX_VALUE) {
+                return size;
+            }
+            size++;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        int dummy = index(head.get());
+        return index(chunk(dummy).next.get(dummy & CHUNK_MASK)) == NIL;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConcurrentLinkedListQueue: size = %d", getSize());
+    }
+}
@@ -0,0 +1,204 @@
+package com.holelin.queue;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * ClassName: ConcurrentLinkedListQueueTest
+ * 无锁链表队列测试
+ * 1. 单线程随机操作,与java.util.ArrayDeque对比
+ * 2. 多生产者多消费者,检查每个元素恰好出队一次,且同一生产者的元素按入队顺序出队
+ * 3. 稳定状态下与LinkedListQueue、ConcurrentLinkedQueue对比耗时和GC次数
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentLinkedListQueueTest {
+    public static void main(String[] args) throws InterruptedException {
+        Random random = new Random();
+        ConcurrentLinkedListQueue<Integer> queue = new ConcurrentLinkedListQueue<>();
+        ArrayDeque<Integer> oracle = new ArrayDeque<>();
+        for (int i = 0; i < 1000000; i++) {
+            if (random.nextInt(3) != 0 || oracle.isEmpty()) {
+                queue.enqueue(i);
+                oracle.addLast(i);
+            } else if (!queue.dequeue().equals(oracle.pollFirst())) {
+                throw new IllegalArgumentException("Error");
+            }
+            // getSize遍历链表,O(n),每1024次操作检查一次
+            if (((i & 1023) == 0 && queue.getSize() != oracle.size())
+                    || (!oracle.isEmpty() && !queue.getFront().equals(oracle.peekFirst()))) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        while (!oracle.isEmpty()) {
+            if (!queue.dequeue().equals(oracle.pollFirst())) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        if (queue.poll() != null || !queue.isEmpty()) {
+            throw new IllegalArgumentException("Error");
+        }
+        System.out.println("Test ConcurrentLinkedListQueue completed.");
+
+        int opCount = 2000000;
+        int[][] shapes = {{1, 1}, {4, 1}, {2, 2}, {4, 4}};
+        for (int[] shape : shapes) {
+            double time = testConcurrent(shape[0], shape[1], opCount);
+            System.out.println(shape[0] + " producers / " + shape[1] + " consumers: " + (long) (opCount / time) + " ops/s");
+        }
+        System.out.println("Test concurrent ConcurrentLinkedListQueue completed.");
+
+        Integer[] values = new Integer[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        int steadyOps = 20000000;
+        testSteadyState("LinkedListQueue", new LinkedListQueue<Integer>(), values, steadyOps);
+        final ConcurrentLinkedQueue<Integer> jdk = new ConcurrentLinkedQueue<>();
+        testSteadyState("ConcurrentLinkedQueue", new Queue<Integer>() {
+            @Override
+            public int getSize() {
+                return jdk.size();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return jdk.isEmpty();
+            }
+
+            @Override
+            public void enqueue(Integer e) {
+                jdk.offer(e);
+            }
+
+            @Override
+            public Integer dequeue() {
+                return jdk.poll();
+            }
+
+            @Override
+            public Integer getFront() {
+                return jdk.peek();
+            }
+        }, values, steadyOps);
+        testSteadyState("ConcurrentLinkedListQueue", new ConcurrentLinkedListQueue<Integer>(), values, steadyOps);
+    }
+
+    /**
+     * producers个生产者放入[0, opCount)中的数,第t个生产者放入 t, t + producers, ...;
+     * consumers个消费者取出,检查每个数恰好取出一次,且每个消费者看到的同一生产者的数是递增的
+     */
+    private static double testConcurrent(final int producers, int consumers, final int opCount) throws InterruptedException {
+        final ConcurrentLinkedListQueue<Integer> queue = new ConcurrentLinkedListQueue<>();
+        final AtomicIntegerArray seen = new AtomicIntegerArray(opCount);
+        final AtomicBoolean failed = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch produced = new CountDownLatch(producers);
+        final CountDownLatch consumed = new CountDownLatch(consumers);
+        for (int t = 0; t < producers; t++) {
+            final int id = t;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = id; i < opCount; i += producers) {
+                            queue.enqueue(i);
+                        }
+                    } catch (InterruptedException e) {
+                        failed.set(true);
+                    } finally {
+                        produced.countDown();
+                    }
+                }
+            }).start();
+        }
+        for (int t = 0; t < consumers; t++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    int[] last = new int[producers];
+                    for (int i = 0; i < producers; i++) {
+                        last[i] = -1;
+                    }
+                    try {
+                        start.await();
+                        while (true) {
+                            Integer e = queue.poll();
+                            if (e == null) {
+                                if (produced.getCount() == 0) {
+                                    // 生产者已全部结束,再确认一次队列为空
+                                    e = queue.poll();
+                                    if (e == null) {
+                                        break;
+                                    }
+                                } else {
+                                    Thread.yield();
+                                    continue;
+                                }
+                            }
+                            if (seen.getAndIncrement(e) != 0 || e <= last[e % producers]) {
+                                failed.set(true);
+                            }
+                            last[e % producers] = e;
+                        }
+                    } catch (InterruptedException e) {
+                        failed.set(true);
+                    } finally {
+                        consumed.countDown();
+                    }
+                }
+            }).start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        consumed.await();
+        long endTime = System.nanoTime();
+        for (int i = 0; i < opCount; i++) {
+            if (seen.get(i) != 1) {
+                failed.set(true);
+            }
+        }
+        if (failed.get() || !queue.isEmpty()) {
+            throw new IllegalArgumentException("Error");
+        }
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    /**
+     * 队列中保持values.length个元素,每次操作为一次入队加一次出队;元素事先装箱,GC只来自队列本身
+     */
+    private static void testSteadyState(String name, Queue<Integer> queue, Integer[] values, int opCount) {
+        for (Integer value : values) {
+            queue.enqueue(value);
+        }
+        long gcBefore = gcCount();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < opCount; i++) {
+            queue.enqueue(values[i & (values.length - 1)]);
+            if (queue.dequeue() == null) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        long endTime = System.nanoTime();
+        long gcs = gcCount() - gcBefore;
+        System.out.println(name + ": " + (endTime - startTime) / 1000000000.0 + " s, " + gcs + " GCs");
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,231 @@
+package com.holelin.queue;
+
+import com.holelin.heap.ComparatorHeap;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ClassName: ConcurrentPriorityQueue
+ * 线程安全的优先队列,comparator意义下最小的先出队 -- MultiQueue
+ * <p>
+ * 1. 内部有queues个{@link ComparatorHeap},每个堆有自己的锁
+ * 2. 入队: 随机选一个堆,tryLock成功则放入;连续失败queues次后阻塞在随机的一个堆上
+ * 3. 出队: 随机选两个堆,比较它们的堆顶(每个堆在修改后发布自己的堆顶),从较小的一个中取出;
+ * 两个堆都为空时逐个检查所有堆,全部为空才返回null
+ * 4. queues = 1时即为一个加锁的堆,严格按顺序出队;queues > 1时是宽松的(relaxed)优先队列:
+ * 出队的不一定是全局最小的元素,但线程之间很少争用同一把锁。推荐queues = 2 * 线程数,
+ * 此时出队元素的秩(队列中比它小的元素个数)期望为O(queues)
+ * 5. 宽松模式下getFront返回所有堆顶中最小的一个;并发修改时getFront、getSize都是近似值
+ * 6. 第4条的吞吐量和秩误差尚未在多核机器上验证。在单核环境中,持有锁的线程被抢占后它的堆顶滞留,
+ * 宽松模式从2个线程起比严格模式和PriorityBlockingQueue都慢,32个线程时平均秩误差达到数千到上万;
+ * 使用前用ConcurrentPriorityQueueBenchmark(-t 1 ~ 32)在目标机器上测量
+ * <p>
+ * 参考: Rihani, Sanders, Dementiev. MultiQueues: Simple Relaxed Concurrent Priority Queues. SPAA 2015
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentPriorityQueue<E> implements Queue<E> {
+    /**
+     * 一个堆及它的锁,top和size在持有锁时更新,读取不需要锁
+     */
+    private static final class Shard<E> {
+        final ReentrantLock lock = new ReentrantLock();
+        final ComparatorHeap<E> heap;
+        volatile E top;
+        volatile int size;
+
+        Shard(Comparator<? super E> comparator) {
+            heap = new ComparatorHeap<>(comparator, false, 4);
+        }
+
+        /**
+         * 持有锁时调用,发布新的堆顶和大小
+         */
+        void publish() {
+            size = heap.size();
+            top = size == 0 ? null : heap.findMin();
+        }
+    }
+
+    private final Comparator<? super E> comparator;
+    private final Shard<E>[] shards;
+
+    /**
+     * 严格模式: 只有一个堆
+     *
+     * @param comparator 元素的比较器
+     */
+    public ConcurrentPriorityQueue(Comparator<? super E> comparator) {
+        this(comparator, 1);
+    }
+
+    /**
+     * @param comparator 元素的比较器
+     * @param queues     内部堆的个数,1为严格模式,越大吞吐量越高、出队顺序越宽松
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConcurrentPriorityQueue(Comparator<? super E> comparator, int queues) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("comparator can't be null");
+        }
+        if (queues <= 0) {
+            throw new IllegalArgumentException("queues must be positive");
+        }
+        this.comparator = comparator;
+        shards = new Shard[queues];
+        for (int i = 0; i < queues; i++) {
+            shards[i] = new Shard<>(comparator);
+        }
+    }
+
+    /**
+     * @return 是否严格按顺序出队
+     */
+    public boolean isStrict() {
+        return shards.length == 1;
+    }
+
+    @Override
+    public void enqueue(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("element can't be null");
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < shards.length; attempt++) {
+            Shard<E> shard = shards[random.nextInt(shards.length)];
+            if (shard.lock.tryLock()) {
+                add(shard, e);
+                return;
+            }
+        }
+        Shard<E> shard = shards[random.nextInt(shards.length)];
+        shard.lock.lock();
+        add(shard, e);
+    }
+
+    /**
+     * 持有shard的锁时调用,放入元素后释放锁
+     */
+    private static <E> void add(Shard<E> shard, E e) {
+        try {
+            shard.heap.add(e);
+            shard.publish();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * 非阻塞出队
+     *
+     * @return 出队的元素,队列为空返回null
+     */
+    public E poll() {
+        if (shards.length == 1) {
+            Shard<E> shard = shards[0];
+            shard.lock.lock();
+            return extract(shard);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < shards.length; attempt++) {
+            Shard<E> a = shards[random.nextInt(shards.length)];
+            Shard<E> b = shards[random.nextInt(shards.length)];
+            E topA = a.top;
+            E topB = b.top;
+            if (topA == null && topB == null) {
+                continue;
+            }
+            Shard<E> shard = topB == null || (topA != null && comparator.compare(topA, topB) <= 0) ? a : b;
+            if (shard.lock.tryLock()) {
+                E e = extract(shard);
+                if (e != null) {
+                    return e;
+                }
+            }
+        }
+        // 随机选择多次都没有取到,逐个检查所有堆
+        int start = random.nextInt(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            Shard<E> shard = shards[(start + i) % shards.length];
+            if (shard.size > 0) {
+                shard.lock.lock();
+                E e = extract(shard);
+                if (e != null) {
+                    return e;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 持有shard的锁时调用,取出堆顶后释放锁
+     *
+     * @return 堆顶元素,堆为空返回null
+     */
+    private static <E> E extract(Shard<E> shard) {
+        try {
+            if (shard.heap.isEmpty()) {
+                return null;
+            }
+            E e = shard.heap.extractMin();
+            shard.publish();
+            return e;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        E e = poll();
+        if (e == null) {
+            throw new IllegalArgumentException("Cannot dequeue form an empty queue");
+        }
+        return e;
+    }
+
+    @Override
+    public E getFront() {
+        E min = null;
+        for (Shard<E> shard : shards) {
+            E top = shard.top;
+            if (top != null && (min == null || comparator.compare(top, min) < 0)) {
+                min = top;
+            }
+        }
+        if (min == null) {
+            throw new IllegalArgumentException("Queue is empty");
+        }
+        return min;
+    }
+
+    @Override
+    public int getSize() {
+        int size = 0;
+        for (Shard<E> shard : shards) {
+            size += shard.size;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Shard<E> shard : shards) {
+            if (shard.size > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConcurrentPriorityQueue: size = %d, queues = %d", getSize(), shards.length);
+    }
+}
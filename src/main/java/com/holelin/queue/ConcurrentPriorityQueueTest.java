@@ -0,0 +1,222 @@
+package com.holelin.queue;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * ClassName: ConcurrentPriorityQueueTest
+ * 并发优先队列测试
+ * 1. 单线程严格模式与java.util.PriorityQueue对比;宽松模式检查每个元素恰好出队一次
+ * 2. 1 ~ 32个线程: 预先放入0 ~ n-1的随机排列,所有线程并发出队直到为空,
+ * 按出队顺序计算秩误差(出队时队列中比它小的元素个数)和吞吐量
+ * 3. 1 ~ 32个线程: 入队和出队交替进行,与PriorityBlockingQueue对比吞吐量
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentPriorityQueueTest {
+    private static final Comparator<Integer> NATURAL = new Comparator<Integer>() {
+        @Override
+        public int compare(Integer a, Integer b) {
+            return Integer.compare(a, b);
+        }
+    };
+
+    public static void main(String[] args) throws InterruptedException {
+        Random random = new Random();
+        ConcurrentPriorityQueue<Integer> strict = new ConcurrentPriorityQueue<>(NATURAL);
+        ConcurrentPriorityQueue<Integer> relaxed = new ConcurrentPriorityQueue<>(NATURAL, 8);
+        java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>();
+        // 宽松模式出队的不一定是最小值,用counts记录其中每个数的个数
+        int[] counts = new int[1000];
+        for (int i = 0; i < 1000000; i++) {
+            if (random.nextInt(3) != 0 || expected.isEmpty()) {
+                int e = random.nextInt(counts.length);
+                strict.enqueue(e);
+                relaxed.enqueue(e);
+                expected.add(e);
+                counts[e]++;
+            } else {
+                if (!strict.dequeue().equals(expected.poll()) || --counts[relaxed.dequeue()] < 0) {
+                    throw new IllegalArgumentException("Error");
+                }
+            }
+            if (strict.getSize() != expected.size() || relaxed.getSize() != expected.size()
+                    || (!expected.isEmpty() && !strict.getFront().equals(expected.peek()))
+                    || (!expected.isEmpty() && counts[relaxed.getFront()] == 0)) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        while (!expected.isEmpty()) {
+            if (!strict.dequeue().equals(expected.poll()) || --counts[relaxed.dequeue()] < 0) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        if (strict.poll() != null || relaxed.poll() != null || !relaxed.isEmpty()) {
+            throw new IllegalArgumentException("Error");
+        }
+        System.out.println("Test ConcurrentPriorityQueue completed.");
+
+        int n = 1000000;
+        for (int threads = 1; threads <= 32; threads <<= 1) {
+            testDrain(new ConcurrentPriorityQueue<>(NATURAL), "strict", threads, n);
+            testDrain(new ConcurrentPriorityQueue<>(NATURAL, 2 * threads), "relaxed", threads, n);
+        }
+        int opCount = 2000000;
+        for (int threads = 1; threads <= 32; threads <<= 1) {
+            double time1 = testMixed(new ConcurrentPriorityQueue<>(NATURAL), threads, opCount);
+            double time2 = testMixed(new ConcurrentPriorityQueue<>(NATURAL, 2 * threads), threads, opCount);
+            final PriorityBlockingQueue<Integer> blocking = new PriorityBlockingQueue<>();
+            double time3 = testMixed(new Queue<Integer>() {
+                @Override
+                public int getSize() {
+                    return blocking.size();
+                }
+
+                @Override
+                public boolean isEmpty() {
+                    return blocking.isEmpty();
+                }
+
+                @Override
+                public void enqueue(Integer e) {
+                    blocking.offer(e);
+                }
+
+                @Override
+                public Integer dequeue() {
+                    return blocking.poll();
+                }
+
+                @Override
+                public Integer getFront() {
+                    return blocking.peek();
+                }
+            }, threads, opCount);
+            System.out.println(threads + " threads mixed -- strict: " + (long) (opCount / time1) + " ops/s, relaxed: "
+                    + (long) (opCount / time2) + " ops/s, PriorityBlockingQueue: " + (long) (opCount / time3) + " ops/s");
+        }
+    }
+
+    /**
+     * 放入0 ~ n-1的随机排列,threads个线程并发出队直到为空;
+     * 第k次出队的元素v的秩误差 = v - 之前出队的元素中小于v的个数
+     */
+    private static void testDrain(final ConcurrentPriorityQueue<Integer> queue, String name, int threads, final int n)
+            throws InterruptedException {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        Random random = new Random();
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = values[i];
+            values[i] = values[j];
+            values[j] = t;
+        }
+        for (int v : values) {
+            queue.enqueue(v);
+        }
+        final AtomicIntegerArray order = new AtomicIntegerArray(n);
+        final AtomicInteger ticket = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        Integer e;
+                        while ((e = queue.poll()) != null) {
+                            order.set(ticket.getAndIncrement(), e);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        long endTime = System.nanoTime();
+        if (ticket.get() != n) {
+            throw new IllegalArgumentException("Error");
+        }
+        // 树状数组记录已出队的元素
+        int[] tree = new int[n + 1];
+        boolean[] seen = new boolean[n];
+        long totalError = 0;
+        int maxError = 0;
+        for (int k = 0; k < n; k++) {
+            int v = order.get(k);
+            if (seen[v]) {
+                throw new IllegalArgumentException("Error");
+            }
+            seen[v] = true;
+            int removedBelow = 0;
+            for (int i = v; i > 0; i -= i & -i) {
+                removedBelow += tree[i];
+            }
+            int error = v - removedBelow;
+            totalError += error;
+            maxError = Math.max(maxError, error);
+            for (int i = v + 1; i <= n; i += i & -i) {
+                tree[i]++;
+            }
+        }
+        if (queue.isStrict() && threads == 1 && maxError != 0) {
+            throw new IllegalArgumentException("Error");
+        }
+        System.out.println(threads + " threads drain -- " + name + ": " + (long) (n / ((endTime - startTime) / 1000000000.0))
+                + " ops/s, mean rank error " + (double) totalError / n + ", max rank error " + maxError);
+    }
+
+    /**
+     * 每个线程交替入队一个随机数和出队一个元素,共opCount次操作
+     */
+    private static double testMixed(final Queue<Integer> queue, final int threads, final int opCount)
+            throws InterruptedException {
+        for (int i = 0; i < 10000; i++) {
+            queue.enqueue(i);
+        }
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Random random = new Random();
+                    try {
+                        start.await();
+                        for (int i = 0; i < opCount / threads / 2; i++) {
+                            queue.enqueue(random.nextInt(1000000));
+                            if (queue.dequeue() == null) {
+                                throw new IllegalArgumentException("Error");
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+}
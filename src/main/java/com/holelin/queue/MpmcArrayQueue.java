@@ -0,0 +1,308 @@
+package com.holelin.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ClassName: MpmcArrayQueue
+ * 多生产者多消费者的有界无锁队列 -- Vyukov bounded MPMC queue
+ * <p>
+ * 1. 每个位置有一个序号sequence,初始为位置的下标:
+ * -- sequence == pos: 位置空闲,等待序号为pos的入队
+ * -- sequence == pos + 1: 位置已写入,等待序号为pos的出队
+ * -- 出队后sequence设为pos + capacity,等待下一圈的入队
+ * 2. 入队先CAS将tail从pos改为pos + 1抢占位置,再写入元素并发布sequence;出队同理
+ * 生产者之间只争用tail,消费者之间只争用head,生产者和消费者之间只通过各个位置的sequence交互
+ * 3. tail和head用填充隔开,避免伪共享(同{@link SpscRingQueue})
+ * 4. offer/poll不阻塞;put/take及带超时的版本在失败时退避: 先自旋,再yield,最后park,park的时间逐渐加倍
+ * <p>
+ * 参考: http://www.1024cores.net/home/lock-free-algorithms/queues/bounded-mpmc-queue
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class MpmcArrayQueue<E> extends MpmcArrayQueuePad2 implements Queue<E> {
+    private static final AtomicLongFieldUpdater<MpmcArrayQueueTailFields> TAIL =
+            AtomicLongFieldUpdater.newUpdater(MpmcArrayQueueTailFields.class, "tail");
+    private static final AtomicLongFieldUpdater<MpmcArrayQueueHeadFields> HEAD =
+            AtomicLongFieldUpdater.newUpdater(MpmcArrayQueueHeadFields.class, "head");
+
+    /**
+     * 退避: 前SPIN_TRIES次自旋,之后YIELD_TRIES次yield,再之后park
+     */
+    private static final int SPIN_TRIES = 64;
+    private static final int YIELD_TRIES = 64;
+    private static final long MIN_PARK_NANOS = 1000L;
+    private static final long MAX_PARK_NANOS = 1000000L;
+
+    private final E[] data;
+    private final AtomicLongArray sequence;
+    private final int mask;
+
+    /**
+     * @param capacity 容量,会向上取整为2的幂
+     */
+    @SuppressWarnings("unchecked")
+    public MpmcArrayQueue(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be in [2, 2^30]");
+        }
+        int n = Integer.highestOneBit(capacity);
+        if (n < capacity) {
+            n <<= 1;
+        }
+        data = (E[]) new Object[n];
+        sequence = new AtomicLongArray(n);
+        for (int i = 0; i < n; i++) {
+            sequence.lazySet(i, i);
+        }
+        mask = n - 1;
+    }
+
+    public int getCapacity() {
+        return data.length;
+    }
+
+    /**
+     * 非阻塞入队
+     *
+     * @param e 需入队的元素
+     * @return 队列已满返回false
+     */
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("element can't be null");
+        }
+        long pos = tail;
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequence.get(index) - pos;
+            if (diff == 0) {
+                if (TAIL.compareAndSet(this, pos, pos + 1)) {
+                    data[index] = e;
+                    sequence.lazySet(index, pos + 1);
+                    return true;
+                }
+                pos = tail;
+            } else if (diff < 0) {
+                // 上一圈的元素还没有出队,队列已满
+                return false;
+            } else {
+                // 其他生产者已经抢占了这个位置
+                pos = tail;
+            }
+        }
+    }
+
+    /**
+     * 非阻塞出队
+     *
+     * @return 队头元素,队列为空返回null
+     */
+    public E poll() {
+        long pos = head;
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequence.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (HEAD.compareAndSet(this, pos, pos + 1)) {
+                    E e = data[index];
+                    data[index] = null;
+                    sequence.lazySet(index, pos + data.length);
+                    return e;
+                }
+                pos = head;
+            } else if (diff < 0) {
+                // 元素还没有写入,队列为空
+                return null;
+            } else {
+                pos = head;
+            }
+        }
+    }
+
+    /**
+     * 入队,队列满时等待
+     *
+     * @param e 需入队的元素
+     * @throws InterruptedException 等待时被中断
+     */
+    public void put(E e) throws InterruptedException {
+        for (int attempt = 0; !offer(e); attempt++) {
+            backoff(attempt, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * 入队,队列满时最多等待timeout
+     *
+     * @return 超时返回false
+     * @throws InterruptedException 等待时被中断
+     */
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int attempt = 0; !offer(e); attempt++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            backoff(attempt, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * 出队,队列空时等待
+     *
+     * @return 队头元素
+     * @throws InterruptedException 等待时被中断
+     */
+    public E take() throws InterruptedException {
+        E e;
+        for (int attempt = 0; (e = poll()) == null; attempt++) {
+            backoff(attempt, Long.MAX_VALUE);
+        }
+        return e;
+    }
+
+    /**
+     * 出队,队列空时最多等待timeout
+     *
+     * @return 队头元素,超时返回null
+     * @throws InterruptedException 等待时被中断
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        E e;
+        for (int attempt = 0; (e = poll()) == null; attempt++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            backoff(attempt, remaining);
+        }
+        return e;
+    }
+
+    /**
+     * 第attempt次失败后的等待
+     *
+     * @param maxNanos park的最长时间
+     */
+    private static void backoff(int attempt, long maxNanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (attempt < SPIN_TRIES) {
+            return;
+        }
+        if (attempt < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+            return;
+        }
+        int shift = Math.min(attempt - SPIN_TRIES - YIELD_TRIES, 10);
+        LockSupport.parkNanos(Math.min(Math.min(MIN_PARK_NANOS << shift, MAX_PARK_NANOS), maxNanos));
+    }
+
+    /**
+     * 入队,队列满时等待;等待期间被中断时保留中断状态继续等待
+     *
+     * @param e 需入队的元素
+     */
+    @Override
+    public void enqueue(E e) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                put(e);
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public E dequeue() {
+        E e = poll();
+        if (e == null) {
+            throw new IllegalArgumentException("Cannot dequeue form an empty queue");
+        }
+        return e;
+    }
+
+    /**
+     * 并发出队时返回的可能已经被其他线程取走
+     */
+    @Override
+    public E getFront() {
+        while (true) {
+            long pos = head;
+            int index = (int) pos & mask;
+            long diff = sequence.get(index) - (pos + 1);
+            if (diff < 0) {
+                throw new IllegalArgumentException("Queue is empty");
+            }
+            E e = data[index];
+            if (diff == 0 && e != null && head == pos) {
+                return e;
+            }
+        }
+    }
+
+    /**
+     * 并发修改时为近似值
+     */
+    @Override
+    public int getSize() {
+        long h = head;
+        long size = tail - h;
+        return (int) Math.max(0, Math.min(size, data.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MpmcArrayQueue: size = %d, capacity = %d", getSize(), getCapacity());
+    }
+}
+
+/**
+ * 以下几个类只用于控制字段布局,同SpscRingQueue
+ */
+abstract class MpmcArrayQueuePad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class MpmcArrayQueueTailFields extends MpmcArrayQueuePad0 {
+    /**
+     * 下一个入队位置的序号
+     */
+    volatile long tail;
+}
+
+abstract class MpmcArrayQueuePad1 extends MpmcArrayQueueTailFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpmcArrayQueueHeadFields extends MpmcArrayQueuePad1 {
+    /**
+     * 下一个出队位置的序号
+     */
+    volatile long head;
+}
+
+abstract class MpmcArrayQueuePad2 extends MpmcArrayQueueHeadFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
@@ -0,0 +1,148 @@
+package com.holelin.queue;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * ClassName: MpmcArrayQueueTest
+ * 多生产者多消费者队列测试,与java.util.concurrent.ArrayBlockingQueue对比
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class MpmcArrayQueueTest {
+    private interface JobQueue {
+        void put(Integer e) throws InterruptedException;
+
+        Integer poll(long timeout, TimeUnit unit) throws InterruptedException;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<>(3);
+        for (int i = 0; i < 4; i++) {
+            if (!queue.offer(i)) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        if (queue.offer(4) || queue.offer(4, 10, TimeUnit.MILLISECONDS) || queue.getFront() != 0) {
+            throw new IllegalArgumentException("Error");
+        }
+        for (int i = 0; i < 4; i++) {
+            if (queue.take() != i) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        if (queue.poll() != null || queue.poll(10, TimeUnit.MILLISECONDS) != null || !queue.isEmpty()) {
+            throw new IllegalArgumentException("Error");
+        }
+        System.out.println("Test MpmcArrayQueue completed.");
+
+        int opCount = 2000000;
+        for (int threads = 1; threads <= 4; threads <<= 1) {
+            final MpmcArrayQueue<Integer> mpmc = new MpmcArrayQueue<>(1024);
+            double time1 = testQueue(new JobQueue() {
+                @Override
+                public void put(Integer e) throws InterruptedException {
+                    mpmc.put(e);
+                }
+
+                @Override
+                public Integer poll(long timeout, TimeUnit unit) throws InterruptedException {
+                    return mpmc.poll(timeout, unit);
+                }
+            }, threads, opCount);
+            final BlockingQueue<Integer> blocking = new ArrayBlockingQueue<>(1024);
+            double time2 = testQueue(new JobQueue() {
+                @Override
+                public void put(Integer e) throws InterruptedException {
+                    blocking.put(e);
+                }
+
+                @Override
+                public Integer poll(long timeout, TimeUnit unit) throws InterruptedException {
+                    return blocking.poll(timeout, unit);
+                }
+            }, threads, opCount);
+            System.out.println(threads + " producers / " + threads + " consumers -- MpmcArrayQueue: "
+                    + (long) (opCount / time1) + " ops/s, ArrayBlockingQueue: " + (long) (opCount / time2) + " ops/s");
+        }
+    }
+
+    /**
+     * 生产者用put放入[0, opCount)中的每个数一次,消费者用带超时的poll取出,检查每个数恰好被取出一次
+     */
+    private static double testQueue(final JobQueue queue, int threads, final int opCount) throws InterruptedException {
+        final AtomicIntegerArray seen = new AtomicIntegerArray(opCount);
+        final AtomicBoolean failed = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch produced = new CountDownLatch(threads);
+        final CountDownLatch consumed = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            final int total = threads;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = id; i < opCount; i += total) {
+                            queue.put(i);
+                        }
+                    } catch (InterruptedException e) {
+                        failed.set(true);
+                    } finally {
+                        produced.countDown();
+                    }
+                }
+            }).start();
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        while (true) {
+                            Integer e = queue.poll(1, TimeUnit.MILLISECONDS);
+                            if (e == null) {
+                                if (produced.getCount() == 0) {
+                                    // 生产者已全部结束,再确认一次队列为空
+                                    e = queue.poll(1, TimeUnit.MILLISECONDS);
+                                    if (e == null) {
+                                        break;
+                                    }
+                                } else {
+                                    continue;
+                                }
+                            }
+                            if (seen.getAndIncrement(e) != 0) {
+                                failed.set(true);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        failed.set(true);
+                    } finally {
+                        consumed.countDown();
+                    }
+                }
+            }).start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        consumed.await();
+        long endTime = System.nanoTime();
+        for (int i = 0; i < opCount; i++) {
+            if (seen.get(i) != 1) {
+                failed.set(true);
+            }
+        }
+        if (failed.get()) {
+            throw new IllegalArgumentException("Error");
+        }
+        return (endTime - startTime) / 1000000000.0;
+    }
+}
@@ -1,6 +1,9 @@
 package com.holelin.queue;
 
-import com.holelin.heap.MaxHeap;
+import com.holelin.heap.ComparatorHeap;
+
+import java.util.Collections;
+import java.util.Comparator;
 
 /**
  * ClassName: PriorityQueue
@@ -9,41 +12,109 @@ import com.holelin.heap.MaxHeap;
  * -- 普通线性结构    O(1)        O(n)
  * -- 顺序线性结构    O(n)        O(1)
  * -- 堆             O(logn)     O(logn)
+ * <p>
+ * 默认按元素的自然顺序(Comparable)最大的先出队;也可以指定Comparator、最小或最大先出队,
+ * 以及优先级相等时是否按入队顺序出队(fifo),见{@link ComparatorHeap}
+ * 使用自然顺序时元素必须实现Comparable,否则入队时抛出ClassCastException
  *
  * @author HoleLin
  * @version 1.0
  * @date 2019/2/13
  */
 
-public class PriorityQueue<E extends Comparable<E>> implements Queue<E> {
-	private MaxHeap<E> mMaxHeap;
+public class PriorityQueue<E> implements Queue<E> {
+	/**
+	 * 出队顺序
+	 */
+	public enum Order {
+		/**
+		 * 最小的先出队
+		 */
+		MIN,
+		/**
+		 * 最大的先出队
+		 */
+		MAX
+	}
+
+	private static final int DEFAULT_ARITY = 2;
+
+	/**
+	 * 自然顺序
+	 */
+	private static final Comparator<Object> NATURAL_ORDER = new Comparator<Object>() {
+		@Override
+		@SuppressWarnings("unchecked")
+		public int compare(Object a, Object b) {
+			return ((Comparable<Object>) a).compareTo(b);
+		}
+	};
+
+	private ComparatorHeap<E> mHeap;
 
 	public PriorityQueue() {
-		mMaxHeap = new MaxHeap<>();
+		this(DEFAULT_ARITY);
+	}
+
+	/**
+	 * @param d 底层堆每个节点的孩子个数,见{@link ComparatorHeap}
+	 */
+	public PriorityQueue(int d) {
+		this(null, Order.MAX, false, d);
+	}
+
+	/**
+	 * @param comparator 元素的比较器,为null时使用自然顺序
+	 * @param order      最小或最大的先出队
+	 * @param fifo       优先级相等的元素是否按入队顺序出队
+	 */
+	public PriorityQueue(Comparator<? super E> comparator, Order order, boolean fifo) {
+		this(comparator, order, fifo, DEFAULT_ARITY);
+	}
+
+	/**
+	 * @param comparator 元素的比较器,为null时使用自然顺序
+	 * @param order      最小或最大的先出队
+	 * @param fifo       优先级相等的元素是否按入队顺序出队
+	 * @param d          底层堆每个节点的孩子个数
+	 */
+	public PriorityQueue(Comparator<? super E> comparator, Order order, boolean fifo, int d) {
+		if (order == null) {
+			throw new IllegalArgumentException("order can't be null");
+		}
+		Comparator<? super E> c = comparator;
+		if (c == null) {
+			c = NATURAL_ORDER;
+		}
+		if (order == Order.MAX) {
+			// 反转的是比较器而不是元素,不产生额外对象
+			c = Collections.reverseOrder(c);
+		}
+		mHeap = new ComparatorHeap<>(c, fifo, d);
 	}
 
 	@Override
 	public void enqueue(E e) {
-		mMaxHeap.add(e);
+		mHeap.add(e);
 	}
 
 	@Override
 	public E dequeue() {
-		return mMaxHeap.extractMax();
+		return mHeap.extractMin();
 	}
 
 	@Override
 	public E getFront() {
-		return mMaxHeap.findMax();
+		return mHeap.findMin();
 	}
 
 	@Override
 	public int getSize() {
-		return mMaxHeap.size();
+		return mHeap.size();
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return mMaxHeap.isEmpty();
+		return mHeap.isEmpty();
 	}
 }
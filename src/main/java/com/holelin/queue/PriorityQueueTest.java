@@ -0,0 +1,117 @@
+package com.holelin.queue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * ClassName: PriorityQueueTest
+ * 优先队列测试类,与java.util.PriorityQueue对比
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class PriorityQueueTest {
+	/**
+	 * 只按priority比较的事件,id为入队顺序
+	 */
+	private static class Event {
+		final int priority;
+		final int id;
+
+		Event(int priority, int id) {
+			this.priority = priority;
+			this.id = id;
+		}
+	}
+
+	private static final Comparator<Event> BY_PRIORITY = new Comparator<Event>() {
+		@Override
+		public int compare(Event a, Event b) {
+			return Integer.compare(a.priority, b.priority);
+		}
+	};
+
+	public static void main(String[] args) {
+		Random random = new Random();
+		// 默认: 自然顺序,最大的先出队
+		PriorityQueue<Integer> queue = new PriorityQueue<>();
+		java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>(16, java.util.Collections.<Integer>reverseOrder());
+		for (int i = 0; i < 1000000; i++) {
+			if (random.nextInt(3) != 0 || expected.isEmpty()) {
+				int e = random.nextInt(1000);
+				queue.enqueue(e);
+				expected.add(e);
+			} else if (!queue.dequeue().equals(expected.poll())) {
+				throw new IllegalArgumentException("Error");
+			}
+			if (queue.getSize() != expected.size() || (!expected.isEmpty() && !queue.getFront().equals(expected.peek()))) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		System.out.println("Test PriorityQueue completed.");
+
+		// Comparator + MIN/MAX + fifo: 优先级相等时按id(入队顺序)出队
+		for (final PriorityQueue.Order order : PriorityQueue.Order.values()) {
+			for (int d = 2; d <= 8; d <<= 1) {
+				PriorityQueue<Event> events = new PriorityQueue<>(BY_PRIORITY, order, true, d);
+				java.util.PriorityQueue<Event> oracle = new java.util.PriorityQueue<>(16, new Comparator<Event>() {
+					@Override
+					public int compare(Event a, Event b) {
+						int cmp = order == PriorityQueue.Order.MIN ? Integer.compare(a.priority, b.priority)
+								: Integer.compare(b.priority, a.priority);
+						return cmp != 0 ? cmp : Integer.compare(a.id, b.id);
+					}
+				});
+				for (int i = 0; i < 500000; i++) {
+					if (random.nextInt(3) != 0 || oracle.isEmpty()) {
+						Event e = new Event(random.nextInt(50), i);
+						events.enqueue(e);
+						oracle.add(e);
+					} else if (events.dequeue() != oracle.poll()) {
+						throw new IllegalArgumentException("Error");
+					}
+				}
+				while (!oracle.isEmpty()) {
+					if (events.dequeue() != oracle.poll()) {
+						throw new IllegalArgumentException("Error");
+					}
+				}
+			}
+		}
+		System.out.println("Test PriorityQueue with Comparator completed.");
+
+		// 稳态: 堆中保持n个事件,每次出队后重新入队
+		int n = 100000;
+		int opCount = 10000000;
+		Event[] pool = new Event[n];
+		for (int i = 0; i < n; i++) {
+			pool[i] = new Event(random.nextInt(1000), i);
+		}
+		PriorityQueue<Event> events = new PriorityQueue<>(BY_PRIORITY, PriorityQueue.Order.MIN, true);
+		for (Event e : pool) {
+			events.enqueue(e);
+		}
+		long bytes = allocatedBytes();
+		long startTime = System.nanoTime();
+		for (int i = 0; i < opCount; i++) {
+			events.enqueue(events.dequeue());
+		}
+		long endTime = System.nanoTime();
+		System.out.println("PriorityQueue(Comparator, MIN, fifo): " + (endTime - startTime) / 1000000000.0 + " s, "
+				+ (allocatedBytes() - bytes) / opCount + " bytes/op");
+	}
+
+	/**
+	 * 当前线程已分配的字节数,JVM不支持时返回0
+	 */
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0;
+	}
+}
@@ -26,6 +26,9 @@ public class QueueEfficiencyTest {
 
 //        ArrayQueue time is 2.475480353 s
 //        LoopQueue time is 0.008487905 s
+//        ArrayQueue改为基于循环数组ArrayDeque后:
+//        ArrayQueue time is 0.033640078 s
+//        LoopQueue time is 0.064618351 s
     }
 
     private static double testQueue(Queue<Integer> q, int opCount) {
@@ -0,0 +1,247 @@
+package com.holelin.queue;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * ClassName: SpscRingQueue
+ * 单生产者单消费者的无锁环形队列
+ * <p>
+ * 与{@link LoopQueue}相比:
+ * 1. 容量为2的幂,下标用 序号 &amp; mask 计算,不需要取模,也不浪费一个位置
+ * 2. tail只由生产者写,head只由消费者写,不需要CAS;
+ * 写入元素后用lazySet(release)发布新的tail,消费者volatile读(acquire)tail后一定能看到元素,head同理
+ * 3. tail和head前后各有64字节的填充,两个线程的写操作不会落在同一缓存行上(伪共享)
+ * 4. 生产者缓存上次读到的head,只有缓存显示队列已满时才重新读取head,减少跨核读取;消费者缓存tail同理
+ * 5. 不扩容,队列满时enqueue自旋等待,offer返回false
+ * <p>
+ * 入队方法(enqueue/offer/fillFrom)只能由一个线程调用,出队方法(dequeue/poll/drainTo/getFront)只能由另一个线程调用
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class SpscRingQueue<E> extends SpscRingQueuePad2 implements Queue<E> {
+    private static final AtomicLongFieldUpdater<SpscRingQueueTailFields> TAIL =
+            AtomicLongFieldUpdater.newUpdater(SpscRingQueueTailFields.class, "tail");
+    private static final AtomicLongFieldUpdater<SpscRingQueueHeadFields> HEAD =
+            AtomicLongFieldUpdater.newUpdater(SpscRingQueueHeadFields.class, "head");
+
+    private final E[] data;
+    private final int mask;
+
+    /**
+     * 默认容量1024
+     */
+    public SpscRingQueue() {
+        this(1024);
+    }
+
+    /**
+     * @param capacity 容量,会向上取整为2的幂
+     */
+    @SuppressWarnings("unchecked")
+    public SpscRingQueue(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be in (0, 2^30]");
+        }
+        int n = Integer.highestOneBit(capacity);
+        if (n < capacity) {
+            n <<= 1;
+        }
+        data = (E[]) new Object[n];
+        mask = n - 1;
+    }
+
+    public int getCapacity() {
+        return data.length;
+    }
+
+    /**
+     * 非阻塞入队
+     *
+     * @param e 需入队的元素
+     * @return 队列已满返回false
+     */
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("element can't be null");
+        }
+        long t = tail;
+        if (t - headCache >= data.length) {
+            headCache = head;
+            if (t - headCache >= data.length) {
+                return false;
+            }
+        }
+        data[(int) t & mask] = e;
+        TAIL.lazySet(this, t + 1);
+        return true;
+    }
+
+    /**
+     * 入队,队列满时自旋等待消费者
+     *
+     * @param e 需入队的元素
+     */
+    @Override
+    public void enqueue(E e) {
+        while (!offer(e)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * 批量入队,只发布一次tail
+     *
+     * @param src    元素数组
+     * @param offset 起始下标
+     * @param length 元素个数
+     * @return 实际入队的个数,队列剩余空间不足时小于length
+     */
+    public int fillFrom(E[] src, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > src.length) {
+            throw new IllegalArgumentException("Illegal offset or length");
+        }
+        long t = tail;
+        long free = data.length - (t - headCache);
+        if (free < length) {
+            headCache = head;
+            free = data.length - (t - headCache);
+        }
+        int n = (int) Math.min(free, length);
+        for (int i = 0; i < n; i++) {
+            E e = src[offset + i];
+            if (e == null) {
+                throw new IllegalArgumentException("element can't be null");
+            }
+            data[(int) (t + i) & mask] = e;
+        }
+        TAIL.lazySet(this, t + n);
+        return n;
+    }
+
+    /**
+     * 非阻塞出队
+     *
+     * @return 队头元素,队列为空返回null
+     */
+    public E poll() {
+        long h = head;
+        if (h >= tailCache) {
+            tailCache = tail;
+            if (h >= tailCache) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        E ret = data[index];
+        data[index] = null;
+        HEAD.lazySet(this, h + 1);
+        return ret;
+    }
+
+    @Override
+    public E dequeue() {
+        E ret = poll();
+        if (ret == null) {
+            throw new IllegalArgumentException("Cannot dequeue form an empty queue");
+        }
+        return ret;
+    }
+
+    /**
+     * 批量出队,只发布一次head
+     *
+     * @param dst    存放元素的数组
+     * @param offset 起始下标
+     * @param length 最多出队的个数
+     * @return 实际出队的个数
+     */
+    public int drainTo(E[] dst, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > dst.length) {
+            throw new IllegalArgumentException("Illegal offset or length");
+        }
+        long h = head;
+        long available = tailCache - h;
+        if (available < length) {
+            tailCache = tail;
+            available = tailCache - h;
+        }
+        int n = (int) Math.min(available, length);
+        for (int i = 0; i < n; i++) {
+            int index = (int) (h + i) & mask;
+            dst[offset + i] = data[index];
+            data[index] = null;
+        }
+        HEAD.lazySet(this, h + n);
+        return n;
+    }
+
+    @Override
+    public E getFront() {
+        long h = head;
+        if (h >= tail) {
+            throw new IllegalArgumentException("Queue is empty");
+        }
+        return data[(int) h & mask];
+    }
+
+    /**
+     * 其他线程调用时为近似值
+     */
+    @Override
+    public int getSize() {
+        long h = head;
+        long size = tail - h;
+        return (int) Math.max(0, Math.min(size, data.length));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head >= tail;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SpscRingQueue: size = %d, capacity = %d", getSize(), getCapacity());
+    }
+}
+
+/**
+ * 以下几个类只用于控制字段布局: 父类的字段排在子类之前,
+ * tail和head之间、以及它们与其他对象之间都隔着至少64字节的填充
+ */
+abstract class SpscRingQueuePad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SpscRingQueueTailFields extends SpscRingQueuePad0 {
+    /**
+     * 下一个入队位置的序号,只由生产者写
+     */
+    volatile long tail;
+    /**
+     * 生产者缓存的head
+     */
+    long headCache;
+}
+
+abstract class SpscRingQueuePad1 extends SpscRingQueueTailFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SpscRingQueueHeadFields extends SpscRingQueuePad1 {
+    /**
+     * 下一个出队位置的序号,只由消费者写
+     */
+    volatile long head;
+    /**
+     * 消费者缓存的tail
+     */
+    long tailCache;
+}
+
+abstract class SpscRingQueuePad2 extends SpscRingQueueHeadFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
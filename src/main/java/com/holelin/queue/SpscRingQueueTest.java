@@ -0,0 +1,155 @@
+package com.holelin.queue;
+
+/**
+ * ClassName: SpscRingQueueTest
+ * 单生产者单消费者队列测试,与synchronized保护的LoopQueue对比两个线程之间的吞吐量
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class SpscRingQueueTest {
+    public static void main(String[] args) throws InterruptedException {
+        SpscRingQueue<Integer> queue = new SpscRingQueue<>(5);
+        if (queue.getCapacity() != 8) {
+            throw new IllegalArgumentException("Error");
+        }
+        for (int i = 0; i < 8; i++) {
+            if (!queue.offer(i)) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        if (queue.offer(8) || queue.getSize() != 8 || queue.getFront() != 0) {
+            throw new IllegalArgumentException("Error");
+        }
+        Integer[] buffer = new Integer[16];
+        if (queue.drainTo(buffer, 0, 3) != 3 || buffer[2] != 2 || queue.dequeue() != 3) {
+            throw new IllegalArgumentException("Error");
+        }
+        Integer[] src = {100, 101, 102, 103, 104, 105};
+        if (queue.fillFrom(src, 0, src.length) != 4 || queue.getSize() != 8) {
+            throw new IllegalArgumentException("Error");
+        }
+        int expected = 4;
+        while (!queue.isEmpty()) {
+            int value = queue.dequeue();
+            if (value != (expected < 8 ? expected : 100 + expected - 8)) {
+                throw new IllegalArgumentException("Error");
+            }
+            expected++;
+        }
+        if (queue.poll() != null) {
+            throw new IllegalArgumentException("Error");
+        }
+        System.out.println("Test SpscRingQueue completed.");
+
+        int opCount = 20000000;
+        final Integer[] values = new Integer[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        for (int round = 0; round < 3; round++) {
+            double time1 = testLocked(values, opCount / 10);
+            double time2 = testSpsc(values, opCount, false);
+            double time3 = testSpsc(values, opCount, true);
+            System.out.println("synchronized LoopQueue: " + (long) (opCount / 10 / time1) + " ops/s, "
+                    + "SpscRingQueue: " + (long) (opCount / time2) + " ops/s, "
+                    + "SpscRingQueue drainTo/fillFrom: " + (long) (opCount / time3) + " ops/s");
+        }
+    }
+
+    /**
+     * 生产者依次放入values中的元素,消费者检查取出的顺序
+     */
+    private static double testSpsc(final Integer[] values, final int opCount, final boolean batch)
+            throws InterruptedException {
+        final SpscRingQueue<Integer> queue = new SpscRingQueue<>(1 << 14);
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                int i = 0;
+                while (i < opCount) {
+                    if (batch) {
+                        int offset = i & (values.length - 1);
+                        int n = queue.fillFrom(values, offset, Math.min(values.length - offset, opCount - i));
+                        if (n == 0) {
+                            Thread.yield();
+                        }
+                        i += n;
+                    } else {
+                        queue.enqueue(values[i & (values.length - 1)]);
+                        i++;
+                    }
+                }
+            }
+        });
+        long startTime = System.nanoTime();
+        producer.start();
+        Integer[] buffer = new Integer[256];
+        int i = 0;
+        while (i < opCount) {
+            if (batch) {
+                int n = queue.drainTo(buffer, 0, buffer.length);
+                for (int j = 0; j < n; j++) {
+                    check(buffer[j], i + j, values);
+                }
+                if (n == 0) {
+                    Thread.yield();
+                }
+                i += n;
+            } else {
+                Integer value = queue.poll();
+                if (value == null) {
+                    Thread.yield();
+                    continue;
+                }
+                check(value, i, values);
+                i++;
+            }
+        }
+        long endTime = System.nanoTime();
+        producer.join();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    private static double testLocked(final Integer[] values, final int opCount) throws InterruptedException {
+        final LoopQueue<Integer> queue = new LoopQueue<>(1 << 14);
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < opCount; i++) {
+                    synchronized (queue) {
+                        queue.enqueue(values[i & (values.length - 1)]);
+                    }
+                }
+            }
+        });
+        long startTime = System.nanoTime();
+        producer.start();
+        int i = 0;
+        while (i < opCount) {
+            Integer value = null;
+            synchronized (queue) {
+                if (!queue.isEmpty()) {
+                    value = queue.dequeue();
+                }
+            }
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            check(value, i, values);
+            i++;
+        }
+        long endTime = System.nanoTime();
+        producer.join();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    private static void check(Integer value, int i, Integer[] values) {
+        if (value != values[i & (values.length - 1)]) {
+            throw new IllegalArgumentException("Error");
+        }
+    }
+}
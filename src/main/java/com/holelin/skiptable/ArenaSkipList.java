@@ -0,0 +1,256 @@
+package com.holelin.skiptable;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * ClassName: ArenaSkipList
+ * 节点存放在一个int[]中的跳表,存储不重复的int
+ * <p>
+ * {@link SkipListOptimize}的每个节点是一个对象,再引用一个Node[]数组,每层查找要经过两次指针跳转,
+ * 每个键约占用100字节以上(对象头、数组头、引用、对齐)。本类把所有节点连续地存放在arena中:
+ * <pre>
+ * offset + 0            键
+ * offset + 1            层数level
+ * offset + 2 ~ 2+level  每一层下一个节点的offset,0表示null
+ * </pre>
+ * 1. 节点用int偏移量互相引用,键与各层指针相邻,读取键和指针落在同一缓存行内
+ * 2. offset 0处是头结点,拥有MAX_LEVEL层;没有节点指向头结点,所以0可以表示null
+ * 3. 晋升概率为1/4,每个键平均1.33个指针,每个键约13~14字节(arena扩容留出的空间另计)
+ * 4. 删除的节点按层数挂到对应的空闲链表上(复用第0层指针的位置),插入同样层数的节点时优先复用
+ * 5. 数组不足时扩容为两倍,节点的offset不变
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ArenaSkipList {
+
+    public static final int MAX_LEVEL = 16;
+
+    private static final int NIL = 0;
+    private static final int HEAD = 0;
+    private static final int KEY = 0;
+    private static final int LEVEL = 1;
+    private static final int NEXT = 2;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int[] arena;
+    /**
+     * arena中已分配空间的末尾
+     */
+    private int top;
+    /**
+     * freeList[level]: 层数为level的空闲节点链表头
+     */
+    private final int[] freeList = new int[MAX_LEVEL + 1];
+
+    private int levelCount = 1;
+    private int size;
+
+    /**
+     * 插入/删除时记录每一层的前驱,单线程复用
+     */
+    private final int[] update = new int[MAX_LEVEL];
+
+    private Random random = new Random();
+
+    public ArenaSkipList() {
+        arena = new int[INITIAL_CAPACITY];
+        arena[HEAD + LEVEL] = MAX_LEVEL;
+        top = NEXT + MAX_LEVEL;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return arena占用的字节数
+     */
+    public long getArenaBytes() {
+        return (long) arena.length * 4;
+    }
+
+    public boolean contains(int value) {
+        int[] a = arena;
+        int p = HEAD;
+        for (int i = levelCount - 1; i >= 0; i--) {
+            int next;
+            while ((next = a[p + NEXT + i]) != NIL && a[next + KEY] < value) {
+                p = next;
+            }
+        }
+        int next = a[p + NEXT];
+        return next != NIL && a[next + KEY] == value;
+    }
+
+    /**
+     * 查找每一层最后一个小于value的节点,记录在update中
+     *
+     * @return 第0层的下一个节点
+     */
+    private int findUpdate(int value) {
+        int[] a = arena;
+        int p = HEAD;
+        for (int i = levelCount - 1; i >= 0; i--) {
+            int next;
+            while ((next = a[p + NEXT + i]) != NIL && a[next + KEY] < value) {
+                p = next;
+            }
+            update[i] = p;
+        }
+        return a[p + NEXT];
+    }
+
+    /**
+     * 插入value
+     *
+     * @param value 值
+     * @return value已存在返回false
+     */
+    public boolean insert(int value) {
+        int next = findUpdate(value);
+        if (next != NIL && arena[next + KEY] == value) {
+            return false;
+        }
+        int level = randomLevel();
+        if (level > levelCount) {
+            for (int i = levelCount; i < level; i++) {
+                update[i] = HEAD;
+            }
+            levelCount = level;
+        }
+        int node = allocate(level);
+        int[] a = arena;
+        a[node + KEY] = value;
+        a[node + LEVEL] = level;
+        for (int i = 0; i < level; i++) {
+            a[node + NEXT + i] = a[update[i] + NEXT + i];
+            a[update[i] + NEXT + i] = node;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * 删除value
+     *
+     * @param value 值
+     * @return value不存在返回false
+     */
+    public boolean delete(int value) {
+        int node = findUpdate(value);
+        int[] a = arena;
+        if (node == NIL || a[node + KEY] != value) {
+            return false;
+        }
+        int level = a[node + LEVEL];
+        for (int i = 0; i < level; i++) {
+            a[update[i] + NEXT + i] = a[node + NEXT + i];
+        }
+        // 第0层指针的位置用来串起空闲链表
+        a[node + NEXT] = freeList[level];
+        freeList[level] = node;
+        size--;
+        while (levelCount > 1 && a[HEAD + NEXT + levelCount - 1] == NIL) {
+            levelCount--;
+        }
+        return true;
+    }
+
+    /**
+     * 分配一个level层的节点,优先复用空闲链表
+     *
+     * @return 节点的offset
+     */
+    private int allocate(int level) {
+        int node = freeList[level];
+        if (node != NIL) {
+            freeList[level] = arena[node + NEXT];
+            return node;
+        }
+        int need = NEXT + level;
+        if (top + need > arena.length) {
+            if (arena.length > Integer.MAX_VALUE / 2) {
+                throw new IllegalArgumentException("arena is full");
+            }
+            arena = Arrays.copyOf(arena, arena.length << 1);
+        }
+        node = top;
+        top += need;
+        return node;
+    }
+
+    /**
+     * 用升序数组一次性构建跳表,原有数据会被清空
+     * -- 与{@link SkipListOptimize#bulkLoad(int[])}相同,但晋升概率为1/4:
+     * 第i个节点(从1开始)的层数为i末尾0的个数除以2再加一
+     *
+     * @param sorted 严格升序的数组
+     */
+    public void bulkLoad(int[] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] >= sorted[i]) {
+                throw new IllegalArgumentException("array must be strictly ascending");
+            }
+        }
+        // 每个节点平均4/3层,预先分配好空间,避免多次扩容
+        long capacity = NEXT + MAX_LEVEL + (long) sorted.length * (NEXT + 1) + sorted.length / 3 + MAX_LEVEL;
+        if (capacity > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("too many keys");
+        }
+        arena = new int[(int) Math.max(capacity, INITIAL_CAPACITY)];
+        arena[HEAD + LEVEL] = MAX_LEVEL;
+        top = NEXT + MAX_LEVEL;
+        Arrays.fill(freeList, NIL);
+        levelCount = 1;
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            update[i] = HEAD;
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            int level = Math.min(Integer.numberOfTrailingZeros(i + 1) / 2 + 1, MAX_LEVEL);
+            int node = allocate(level);
+            int[] a = arena;
+            a[node + KEY] = sorted[i];
+            a[node + LEVEL] = level;
+            for (int j = 0; j < level; j++) {
+                a[update[j] + NEXT + j] = node;
+                update[j] = node;
+            }
+            if (levelCount < level) {
+                levelCount = level;
+            }
+        }
+        size = sorted.length;
+    }
+
+    /**
+     * 晋升概率为1/4,每次取随机数的两位判断
+     */
+    private int randomLevel() {
+        int level = 1;
+        int r = random.nextInt();
+        while ((r & 3) == 0 && level < MAX_LEVEL) {
+            level++;
+            r >>>= 2;
+        }
+        return level;
+    }
+
+    /**
+     * 打印所有数据
+     */
+    public void printAll() {
+        for (int p = arena[HEAD + NEXT]; p != NIL; p = arena[p + NEXT]) {
+            System.out.print("{ data: " + arena[p + KEY] + "; levels: " + arena[p + LEVEL] + " } ");
+        }
+        System.out.println();
+    }
+}
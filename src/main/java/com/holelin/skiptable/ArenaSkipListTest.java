@@ -0,0 +1,127 @@
+package com.holelin.skiptable;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * ClassName: ArenaSkipListTest
+ * arena跳表测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ArenaSkipListTest {
+
+    public static void main(String[] args) {
+        // 随机操作,与java.util.TreeSet比对
+        ArenaSkipList list = new ArenaSkipList();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random();
+        for (int i = 0; i < 2000000; i++) {
+            int value = random.nextInt(100000) - 50000;
+            switch (random.nextInt(3)) {
+                case 0:
+                    if (list.insert(value) != expected.add(value)) {
+                        throw new IllegalArgumentException("Error");
+                    }
+                    break;
+                case 1:
+                    if (list.delete(value) != expected.remove(value)) {
+                        throw new IllegalArgumentException("Error");
+                    }
+                    break;
+                default:
+                    if (list.contains(value) != expected.contains(value)) {
+                        throw new IllegalArgumentException("Error");
+                    }
+            }
+            if (list.getSize() != expected.size()) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        // 删除后再插入,空闲节点被复用,arena不应继续增长
+        long bytes = list.getArenaBytes();
+        for (int round = 0; round < 10; round++) {
+            for (int value : expected) {
+                list.delete(value);
+            }
+            for (int value : expected) {
+                list.insert(value);
+            }
+        }
+        if (list.getArenaBytes() > bytes * 2) {
+            throw new IllegalArgumentException("Error");
+        }
+        System.out.println("Test ArenaSkipList completed.");
+
+        int n = 1000000;
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = random.nextInt();
+        }
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (m == 0 || sorted[i] != sorted[m - 1]) {
+                sorted[m++] = sorted[i];
+            }
+        }
+        sorted = Arrays.copyOf(sorted, m);
+
+        ArenaSkipList loaded = new ArenaSkipList();
+        loaded.bulkLoad(sorted);
+        ArenaSkipList inserted = new ArenaSkipList();
+        for (int value : data) {
+            inserted.insert(value);
+        }
+        for (int value : data) {
+            if (!loaded.contains(value) || !inserted.contains(value)) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+
+        long before = usedMemory();
+        SkipListOptimize objects = new SkipListOptimize();
+        objects.bulkLoad(sorted);
+        long objectBytes = usedMemory() - before;
+        System.out.println("SkipListOptimize: " + objectBytes / m + " bytes/key, ArenaSkipList: "
+                + loaded.getArenaBytes() / m + " bytes/key (bulkLoad), "
+                + inserted.getArenaBytes() / m + " bytes/key (insert)");
+
+        int[] queries = new int[n];
+        for (int i = 0; i < n; i++) {
+            queries[i] = data[random.nextInt(n)];
+        }
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.nanoTime();
+            for (int value : queries) {
+                if (objects.find(value) == null) {
+                    throw new IllegalArgumentException("Error");
+                }
+            }
+            long endTime = System.nanoTime();
+            double time1 = (endTime - startTime) / 1000000000.0;
+            startTime = System.nanoTime();
+            for (int value : queries) {
+                if (!loaded.contains(value)) {
+                    throw new IllegalArgumentException("Error");
+                }
+            }
+            endTime = System.nanoTime();
+            double time2 = (endTime - startTime) / 1000000000.0;
+            System.out.println(n + " lookups -- SkipListOptimize: " + time1 + " s, ArenaSkipList: " + time2 + " s");
+        }
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,343 @@
+package com.holelin.skiptable;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * ClassName: ConcurrentSkipListIntMap
+ * 线程安全的无锁跳表,键为int -- 在{@link SkipListOptimize}的基础上改为CAS实现
+ * <p>
+ * 1. 每个节点的forwards数组长度等于它的层数,不再为每个节点分配MAX_LEVEL个指针
+ * 2. 插入: 先在第0层CAS链入(此时插入生效),再自底向上逐层链入,某层CAS失败则重新查找前驱
+ * 3. 删除: 先CAS将value置为null(此时删除生效),再自顶向下在每一层的next之后插入一个标记节点(marker),
+ * 被标记的指针不会再被修改,其他线程的CAS插入因此失败,不会把新节点挂到已删除的节点之后;
+ * 查找时遇到被标记的节点,顺手将其从该层摘除
+ * 4. get不加锁也不修改链表,遇到标记节点直接跳过
+ * 5. 层数由ThreadLocalRandom生成,多线程之间不争用同一个Random
+ * <p>
+ * 参考: Harris, A Pragmatic Implementation of Non-Blocking Linked-Lists;
+ * Herlihy &amp; Shavit, The Art of Multiprocessor Programming 14.4
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentSkipListIntMap<V> {
+
+    public static final int MAX_LEVEL = 32;
+
+    /**
+     * 头结点,不存储数据,拥有MAX_LEVEL层
+     */
+    private final Node<V> head = new Node<>(0, null, MAX_LEVEL);
+    /**
+     * 当前最高层数,只增不减;查找从这一层开始
+     */
+    private final AtomicInteger levelCount = new AtomicInteger(1);
+
+    /**
+     * 添加或覆盖元素
+     *
+     * @param key   键
+     * @param value 值
+     */
+    public void add(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value can't be null");
+        }
+        int level = randomLevel();
+        Node<V>[] preds = newNodeArray(raiseLevel(level));
+        Node<V>[] succs = newNodeArray(preds.length);
+        while (true) {
+            if (find(key, preds, succs)) {
+                Node<V> node = succs[0];
+                V v = node.value;
+                if (v == null) {
+                    // 节点正在被删除,帮助完成标记,重新查找时会将其摘除
+                    mark(node);
+                } else if (node.casValue(v, value)) {
+                    return;
+                }
+                continue;
+            }
+            Node<V> node = new Node<>(key, value, level);
+            for (int i = 0; i < level; i++) {
+                node.next.lazySet(i, succs[i]);
+            }
+            if (!preds[0].next.compareAndSet(0, succs[0], node)) {
+                continue;
+            }
+            linkUpperLevels(node, preds, succs);
+            return;
+        }
+    }
+
+    /**
+     * 将已在第0层的节点链入第1层及以上各层
+     */
+    private void linkUpperLevels(Node<V> node, Node<V>[] preds, Node<V>[] succs) {
+        int level = node.next.length();
+        for (int i = 1; i < level; i++) {
+            while (!preds[i].next.compareAndSet(i, succs[i], node)) {
+                // 前驱已变化,重新查找;节点在此期间被删除则不再继续链入
+                find(node.key, preds, succs);
+                Node<V> next = node.next.get(i);
+                if (succs[0] != node || next instanceof Marker
+                        || (next != succs[i] && !node.next.compareAndSet(i, next, succs[i]))) {
+                    cleanUp(node, preds, succs);
+                    return;
+                }
+            }
+        }
+        cleanUp(node, preds, succs);
+    }
+
+    /**
+     * 链入过程中节点可能已被删除,且某一层在删除线程摘除之后才被链入,再查找一次将其摘除
+     */
+    private void cleanUp(Node<V> node, Node<V>[] preds, Node<V>[] succs) {
+        if (node.value == null) {
+            find(node.key, preds, succs);
+        }
+    }
+
+    /**
+     * 删除key
+     *
+     * @param key 键
+     * @return 被删除的值,不存在返回null
+     */
+    public V remove(int key) {
+        Node<V>[] preds = newNodeArray(levelCount.get());
+        Node<V>[] succs = newNodeArray(preds.length);
+        if (!find(key, preds, succs)) {
+            return null;
+        }
+        Node<V> node = succs[0];
+        while (true) {
+            V v = node.value;
+            if (v == null) {
+                // 已被其他线程删除
+                return null;
+            }
+            if (node.casValue(v, null)) {
+                mark(node);
+                // 查找过程会将被标记的节点从每一层摘除
+                find(key, preds, succs);
+                return v;
+            }
+        }
+    }
+
+    /**
+     * 修改key对应的值
+     *
+     * @param key   键
+     * @param value 值
+     */
+    public void set(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value can't be null");
+        }
+        Node<V> node = findNode(key);
+        while (node != null) {
+            V v = node.value;
+            if (v == null) {
+                break;
+            }
+            if (node.casValue(v, value)) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException(key + " doesn't exist!");
+    }
+
+    /**
+     * 不加锁、不修改链表的读操作
+     *
+     * @param key 键
+     * @return key对应的值,不存在返回null
+     */
+    public V get(int key) {
+        Node<V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    public boolean contains(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * 遍历第0层统计元素个数,时间复杂度O(n),并发修改时为近似值
+     *
+     * @return 元素个数
+     */
+    public int getSize() {
+        int size = 0;
+        for (Node<V> p = head.next.get(0); p != null; p = p.next.get(0)) {
+            if (!(p instanceof Marker) && p.value != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (Node<V> p = head.next.get(0); p != null; p = p.next.get(0)) {
+            if (!(p instanceof Marker) && p.value != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 查找key在每一层的前驱和后继,并摘除路径上被标记的节点
+     * -- 从preds.length - 1层开始查找
+     *
+     * @param key   键
+     * @param preds 每一层最后一个小于key的节点
+     * @param succs 每一层第一个不小于key的节点
+     * @return 第0层是否存在key
+     */
+    private boolean find(int key, Node<V>[] preds, Node<V>[] succs) {
+        retry:
+        while (true) {
+            Node<V> pred = head;
+            for (int i = preds.length - 1; i >= 0; i--) {
+                Node<V> curr = pred.next.get(i);
+                while (curr != null) {
+                    if (curr instanceof Marker) {
+                        // pred在这一层已被标记删除,从头开始
+                        continue retry;
+                    }
+                    Node<V> succ = curr.next.get(i);
+                    if (succ instanceof Marker) {
+                        // curr在这一层已被标记删除,将其摘除
+                        Node<V> after = succ.next.get(0);
+                        if (!pred.next.compareAndSet(i, curr, after)) {
+                            continue retry;
+                        }
+                        curr = after;
+                    } else if (curr.key < key) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[i] = pred;
+                succs[i] = curr;
+            }
+            return succs[0] != null && succs[0].key == key;
+        }
+    }
+
+    /**
+     * 只读查找,跳过标记节点,不做摘除
+     *
+     * @return 第0层key所在的节点,可能已被逻辑删除;不存在返回null
+     */
+    private Node<V> findNode(int key) {
+        Node<V> pred = head;
+        Node<V> curr = null;
+        for (int i = levelCount.get() - 1; i >= 0; i--) {
+            curr = pred.next.get(i);
+            while (curr != null) {
+                if (curr instanceof Marker) {
+                    curr = curr.next.get(0);
+                } else if (curr.key < key) {
+                    pred = curr;
+                    curr = curr.next.get(i);
+                } else {
+                    break;
+                }
+            }
+        }
+        return curr != null && curr.key == key ? curr : null;
+    }
+
+    /**
+     * 自顶向下标记节点的每一层,标记之后该层的next不会再被修改
+     */
+    private static <V> void mark(Node<V> node) {
+        for (int i = node.next.length() - 1; i >= 0; i--) {
+            while (true) {
+                Node<V> succ = node.next.get(i);
+                if (succ instanceof Marker || node.next.compareAndSet(i, succ, new Marker<>(succ))) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 将levelCount提升到至少level
+     *
+     * @return 提升后的层数
+     */
+    private int raiseLevel(int level) {
+        while (true) {
+            int current = levelCount.get();
+            if (current >= level) {
+                return current;
+            }
+            if (levelCount.compareAndSet(current, level)) {
+                return level;
+            }
+        }
+    }
+
+    /**
+     * 与{@link SkipList}相同,晋升概率为50%:
+     * 随机数末尾连续1的个数服从几何分布,层数为其加一
+     */
+    private static int randomLevel() {
+        int level = Integer.numberOfTrailingZeros(~ThreadLocalRandom.current().nextInt()) + 1;
+        return Math.min(level, MAX_LEVEL);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <V> Node<V>[] newNodeArray(int length) {
+        return (Node<V>[]) new Node[length];
+    }
+
+    /**
+     * 跳表节点,next的长度即节点的层数
+     */
+    private static class Node<V> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Object> VALUE =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "value");
+
+        final int key;
+        /**
+         * 为null表示已被删除
+         */
+        volatile V value;
+        final AtomicReferenceArray<Node<V>> next;
+
+        Node(int key, V value, int level) {
+            this.key = key;
+            this.value = value;
+            this.next = new AtomicReferenceArray<>(level);
+        }
+
+        boolean casValue(V expect, V update) {
+            return VALUE.compareAndSet(this, expect, update);
+        }
+    }
+
+    /**
+     * 标记节点,插在被删除节点某一层的next位置,next[0]保存该层原来的后继
+     */
+    private static final class Marker<V> extends Node<V> {
+        Marker(Node<V> succ) {
+            super(0, null, 1);
+            next.lazySet(0, succ);
+        }
+    }
+}
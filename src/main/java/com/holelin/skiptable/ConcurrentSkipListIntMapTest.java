@@ -0,0 +1,228 @@
+package com.holelin.skiptable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ClassName: ConcurrentSkipListIntMapTest
+ * 无锁跳表测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentSkipListIntMapTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        // 单线程随机操作,与java.util.TreeMap比对
+        ConcurrentSkipListIntMap<Integer> map = new ConcurrentSkipListIntMap<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random();
+        for (int i = 0; i < 1000000; i++) {
+            int key = random.nextInt(20000) - 10000;
+            switch (random.nextInt(4)) {
+                case 0:
+                    map.add(key, i);
+                    expected.put(key, i);
+                    break;
+                case 1:
+                    if (!equals(map.remove(key), expected.remove(key))) {
+                        throw new IllegalArgumentException("Error");
+                    }
+                    break;
+                case 2:
+                    if (expected.containsKey(key)) {
+                        map.set(key, -i);
+                        expected.put(key, -i);
+                    }
+                    break;
+                default:
+                    if (!equals(map.get(key), expected.get(key)) || map.contains(key) != expected.containsKey(key)) {
+                        throw new IllegalArgumentException("Error");
+                    }
+            }
+            if (i % 10000 == 0 && map.getSize() != expected.size()) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        System.out.println("Test ConcurrentSkipListIntMap completed.");
+
+        int threads = Math.max(Runtime.getRuntime().availableProcessors(), 4);
+        testConcurrent(threads, 100000);
+        System.out.println("Test ConcurrentSkipListIntMap with " + threads + " threads completed.");
+
+        // 写线程与读线程1:4,对比全局锁保护的TreeMap
+        int ops = 1000000;
+        for (int writers = 1; writers <= threads / 2; writers <<= 1) {
+            final ConcurrentSkipListIntMap<Integer> concurrent = new ConcurrentSkipListIntMap<>();
+            final TreeMap<Integer, Integer> locked = new TreeMap<>();
+            double time1 = mixed(writers, writers * 4, ops, new Index() {
+                @Override
+                public void write(int key) {
+                    synchronized (locked) {
+                        if (locked.remove(key) == null) {
+                            locked.put(key, key);
+                        }
+                    }
+                }
+
+                @Override
+                public void read(int key) {
+                    synchronized (locked) {
+                        locked.get(key);
+                    }
+                }
+            });
+            double time2 = mixed(writers, writers * 4, ops, new Index() {
+                @Override
+                public void write(int key) {
+                    if (concurrent.remove(key) == null) {
+                        concurrent.add(key, key);
+                    }
+                }
+
+                @Override
+                public void read(int key) {
+                    concurrent.get(key);
+                }
+            });
+            System.out.println(writers + " writers / " + writers * 4 + " readers -- synchronized TreeMap: "
+                    + time1 + " s, ConcurrentSkipListIntMap: " + time2 + " s");
+        }
+    }
+
+    /**
+     * 每个线程只修改key % threads == id的键,所有线程在同一段键上交错修改;
+     * 同时有一个读线程检查: 从未被修改过的键一直存在
+     */
+    private static void testConcurrent(final int threads, final int opsPerThread) throws InterruptedException {
+        final ConcurrentSkipListIntMap<Integer> map = new ConcurrentSkipListIntMap<>();
+        final int range = 4096;
+        // 负数键只在开始时插入,之后不再修改
+        for (int key = -1; key >= -range; key--) {
+            map.add(key, key);
+        }
+        final Map<Integer, Integer>[] expected = newMapArray(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        final AtomicBoolean failed = new AtomicBoolean();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            expected[id] = new HashMap<>();
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        Random random = ThreadLocalRandom.current();
+                        for (int i = 0; i < opsPerThread; i++) {
+                            int key = random.nextInt(range / threads) * threads + id;
+                            if (random.nextBoolean()) {
+                                map.add(key, i);
+                                expected[id].put(key, i);
+                            } else if (!ConcurrentSkipListIntMapTest.equals(map.remove(key), expected[id].remove(key))) {
+                                failed.set(true);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Random random = ThreadLocalRandom.current();
+                while (done.getCount() > 0) {
+                    int key = -1 - random.nextInt(range);
+                    Integer value = map.get(key);
+                    if (value == null || value != key) {
+                        failed.set(true);
+                    }
+                }
+            }
+        });
+        reader.start();
+        start.countDown();
+        done.await();
+        reader.join();
+        if (failed.get()) {
+            throw new IllegalArgumentException("Error");
+        }
+        int size = range;
+        for (Map<Integer, Integer> m : expected) {
+            for (Map.Entry<Integer, Integer> entry : m.entrySet()) {
+                if (!entry.getValue().equals(map.get(entry.getKey()))) {
+                    throw new IllegalArgumentException("Error");
+                }
+            }
+            size += m.size();
+        }
+        if (map.getSize() != size) {
+            throw new IllegalArgumentException("Error");
+        }
+    }
+
+    private interface Index {
+        void write(int key);
+
+        void read(int key);
+    }
+
+    /**
+     * 所有线程共执行ops次操作,键在[0, 65536)中随机选取
+     */
+    private static double mixed(int writers, int readers, int ops, final Index index) throws InterruptedException {
+        final int threads = writers + readers;
+        final int perThread = ops / threads;
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final boolean writer = t < writers;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        Random random = ThreadLocalRandom.current();
+                        for (int i = 0; i < perThread; i++) {
+                            int key = random.nextInt(1 << 16);
+                            if (writer) {
+                                index.write(key);
+                            } else {
+                                index.read(key);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        done.await();
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Integer, Integer>[] newMapArray(int length) {
+        return (Map<Integer, Integer>[]) new Map[length];
+    }
+
+    private static boolean equals(Integer a, Integer b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
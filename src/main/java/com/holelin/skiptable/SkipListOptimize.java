@@ -1,5 +1,7 @@
 package com.holelin.skiptable;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Random;
 
 /**
@@ -69,7 +71,7 @@ public class SkipListOptimize {
         }
         Node p = head;
         // 从最大层开始查找,找到前一节点,通过i--,移动到下层再开始查找
-        for (int i = levelCount; i >= 0; i--) {
+        for (int i = levelCount - 1; i >= 0; i--) {
             while (null != p.forwards[i] && p.forwards[i].data < value) {
                 // 找到前一节点
                 p = p.forwards[i];
@@ -182,6 +184,109 @@ public class SkipListOptimize {
         }
     }
 
+    /**
+     * 查找小于等于value的最大节点
+     *
+     * @param value 值
+     * @return 不存在返回null
+     */
+    public Node floor(int value) {
+        Node p = head;
+        for (int i = levelCount - 1; i >= 0; i--) {
+            while (null != p.forwards[i] && p.forwards[i].data <= value) {
+                p = p.forwards[i];
+            }
+        }
+        return p == head ? null : p;
+    }
+
+    /**
+     * 查找大于等于value的最小节点
+     *
+     * @param value 值
+     * @return 不存在返回null
+     */
+    public Node ceiling(int value) {
+        Node p = head;
+        for (int i = levelCount - 1; i >= 0; i--) {
+            while (null != p.forwards[i] && p.forwards[i].data < value) {
+                p = p.forwards[i];
+            }
+        }
+        return p.forwards[0];
+    }
+
+    /**
+     * 按升序遍历[from, to)之间的数据
+     * -- 先用ceiling定位起点,之后沿第0层逐个向后,每次next才读取下一个节点
+     * -- 遍历期间修改跳表,结果不确定
+     *
+     * @param from 下界,包含
+     * @param to   上界,不包含
+     * @return 迭代器
+     */
+    public Iterator<Integer> rangeIterator(int from, final int to) {
+        final Node start = from < to ? ceiling(from) : null;
+        return new Iterator<Integer>() {
+            private Node next = start;
+
+            @Override
+            public boolean hasNext() {
+                return null != next && next.data < to;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int data = next.data;
+                next = next.forwards[0];
+                return data;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    /**
+     * 用升序数组一次性构建跳表,原有数据会被清空
+     * -- 第i个节点(从1开始)的层数为i末尾0的个数加一,即每隔2个节点有一个节点在第2层,
+     * 每隔4个节点有一个节点在第3层......与随机层数的期望分布相同,但不需要随机数,也不需要逐个查找插入位置
+     * -- 记录每一层最后一个节点,依次在其后追加,一遍扫描完成,时间复杂度O(n)
+     *
+     * @param sorted 严格升序的数组
+     */
+    public void bulkLoad(int[] sorted) {
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] >= sorted[i]) {
+                throw new IllegalArgumentException("array must be strictly ascending");
+            }
+        }
+        head = new Node(MAX_LEVEL);
+        levelCount = 1;
+        Node[] last = new Node[MAX_LEVEL];
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            last[i] = head;
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            int level = Math.min(Integer.numberOfTrailingZeros(i + 1) + 1, MAX_LEVEL);
+            Node newNode = new Node(level);
+            newNode.data = sorted[i];
+            newNode.maxLevel = level;
+            for (int j = 0; j < level; j++) {
+                last[j].forwards[j] = newNode;
+                last[j] = newNode;
+            }
+            if (levelCount < level) {
+                levelCount = level;
+            }
+        }
+    }
+
     /**
      * 打印每个节点数据和最大层数
      */
@@ -249,6 +354,10 @@ public class SkipListOptimize {
             forwards = new Node[level];
         }
 
+        public int getData() {
+            return data;
+        }
+
         @Override
         public String toString() {
             StringBuilder builder = new StringBuilder();
@@ -0,0 +1,149 @@
+package com.holelin.skiptable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * ClassName: SkipListOptimizeTest
+ * 跳表floor/ceiling/rangeIterator/bulkLoad测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class SkipListOptimizeTest {
+
+    public static void main(String[] args) {
+        Random random = new Random();
+        int n = 100000;
+        TreeSet<Integer> expected = new TreeSet<>();
+        while (expected.size() < n) {
+            expected.add(random.nextInt(10 * n) - 5 * n);
+        }
+        int[] sorted = new int[n];
+        int k = 0;
+        for (int value : expected) {
+            sorted[k++] = value;
+        }
+        int[] shuffled = sorted.clone();
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = t;
+        }
+        SkipListOptimize inserted = new SkipListOptimize();
+        for (int value : shuffled) {
+            inserted.insert(value);
+        }
+        SkipListOptimize loaded = new SkipListOptimize();
+        loaded.insert(42);
+        loaded.bulkLoad(sorted);
+        check(inserted, expected, random);
+        check(loaded, expected, random);
+        System.out.println("Test SkipListOptimize completed.");
+
+        // bulkLoad 2^15个以上的元素后层数达到MAX_LEVEL,之后insert/delete/find仍然正确
+        for (int count : new int[]{1 << 15, 100000}) {
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = 2 * i;
+            }
+            SkipListOptimize full = new SkipListOptimize();
+            full.bulkLoad(keys);
+            full.insert(1);
+            full.insert(2 * count + 1);
+            full.delete(2);
+            if (full.find(1) == null || full.find(2 * count + 1) == null || full.find(2) != null
+                    || full.find(4) == null || full.find(3) != null) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        System.out.println("Test SkipListOptimize bulkLoad then insert completed.");
+
+        try {
+            loaded.bulkLoad(new int[]{1, 3, 3});
+            throw new IllegalStateException("Error");
+        } catch (IllegalArgumentException e) {
+            // 重复元素应被拒绝
+        }
+
+        int size = 2000000;
+        int[] data = new int[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = random.nextInt();
+        }
+        Arrays.sort(data);
+        int m = 0;
+        for (int i = 0; i < size; i++) {
+            if (m == 0 || data[i] != data[m - 1]) {
+                data[m++] = data[i];
+            }
+        }
+        data = Arrays.copyOf(data, m);
+        int[] order = data.clone();
+        for (int i = m - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        long startTime = System.nanoTime();
+        SkipListOptimize list1 = new SkipListOptimize();
+        for (int value : order) {
+            list1.insert(value);
+        }
+        long endTime = System.nanoTime();
+        System.out.println("insert " + m + " keys: " + (endTime - startTime) / 1000000000.0 + " s");
+        list1 = null;
+
+        startTime = System.nanoTime();
+        SkipListOptimize list2 = new SkipListOptimize();
+        list2.bulkLoad(data);
+        endTime = System.nanoTime();
+        System.out.println("bulkLoad " + m + " keys: " + (endTime - startTime) / 1000000000.0 + " s");
+        for (int i = 0; i < 100000; i++) {
+            int value = data[random.nextInt(m)];
+            if (list2.find(value) == null) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+    }
+
+    private static void check(SkipListOptimize list, TreeSet<Integer> expected, Random random) {
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt(12 * expected.size()) - 6 * expected.size();
+            if ((list.find(value) != null) != expected.contains(value)
+                    || !same(list.floor(value), expected.floor(value))
+                    || !same(list.ceiling(value), expected.ceiling(value))) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            int from = random.nextInt(12 * expected.size()) - 6 * expected.size();
+            int to = from + random.nextInt(1000);
+            Iterator<Integer> actual = list.rangeIterator(from, to);
+            for (int value : expected.subSet(from, true, to, false)) {
+                if (!actual.hasNext() || actual.next() != value) {
+                    throw new IllegalArgumentException("Error");
+                }
+            }
+            if (actual.hasNext()) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+        Iterator<Integer> all = list.rangeIterator(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        for (int value : expected) {
+            if (all.next() != value) {
+                throw new IllegalArgumentException("Error");
+            }
+        }
+    }
+
+    private static boolean same(SkipListOptimize.Node node, Integer value) {
+        return node == null ? value == null : value != null && node.getData() == value;
+    }
+}
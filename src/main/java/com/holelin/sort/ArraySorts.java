@@ -0,0 +1,750 @@
+package com.holelin.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ClassName: ArraySorts
+ * long[]、double[]、float[]以及对象数组的排序
+ * -- 基本类型使用与{@link Sorts#introSort(int[])}相同的内省排序,全程不装箱
+ * -- 对象数组使用稳定的归并排序
+ * <p>
+ * 各基本类型的introSort、insertionSort、heapSort、heapify、swap由模板生成(与{@link Sorts}中int[]的相同),
+ * 修改模板后运行{@link ArraySortsGenerator}重新生成
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+final class ArraySorts {
+    /**
+     * 区间长度小于该值时使用插入排序
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private ArraySorts() {
+    }
+
+    /* ---------------------------------- long[] ---------------------------------- */
+
+    /**
+     * 对long数组进行排序
+     *
+     * @param arr 待排数组
+     */
+    public static void sort(long[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * 对long数组的区间[from,to)进行排序
+     *
+     * @param arr  待排数组
+     * @param from 左边界(包含)
+     * @param to   右边界(不包含)
+     */
+    public static void sort(long[] arr, int from, int to) {
+        rangeCheck(arr.length, from, to);
+        introSort(arr, from, to - 1, depthLimit(to - from));
+    }
+
+    // BEGIN GENERATED IntroSort(long) -- 不要直接修改,见ArraySortsGenerator
+    /**
+     * 对区间[lo,hi]进行内省排序
+     *
+     * @param arr        待排数组
+     * @param lo         左边界
+     * @param hi         右边界
+     * @param depthLimit 剩余的递归深度
+     */
+    private static void introSort(long[] arr, int lo, int hi, int depthLimit) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 最右侧的区间通过循环处理,其余区间递归处理
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, lo, hi + 1);
+                return;
+            }
+            // 随机选取两个轴,分别放到区间两端,且arr[lo] <= arr[hi]
+            int len = hi - lo + 1;
+            swap(arr, lo, lo + random.nextInt(len));
+            swap(arr, hi, lo + random.nextInt(len));
+            if (arr[lo] > arr[hi]) {
+                swap(arr, lo, hi);
+            }
+            long p = arr[lo];
+            long q = arr[hi];
+            // 分区结果: [lo+1,lt) < p, [lt,k) 在[p,q]之间, (gt,hi-1] > q
+            int lt = lo + 1;
+            int gt = hi - 1;
+            int k = lt;
+            while (k <= gt) {
+                if (arr[k] < p) {
+                    swap(arr, k, lt++);
+                } else if (arr[k] > q) {
+                    while (arr[gt] > q && k < gt) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if (arr[k] < p) {
+                        swap(arr, k, lt++);
+                    }
+                }
+                k++;
+            }
+            // 将两个轴放到最终位置
+            swap(arr, lo, --lt);
+            swap(arr, hi, ++gt);
+
+            introSort(arr, lo, lt - 1, depthLimit);
+            if (p < q) {
+                // 中间区间中等于p或q的元素已经在最终位置,将它们分别移到两侧,避免重复元素较多时反复分区
+                int less = lt + 1;
+                int great = gt - 1;
+                while (less <= great && arr[less] == p) {
+                    less++;
+                }
+                while (less <= great && arr[great] == q) {
+                    great--;
+                }
+                for (k = less; k <= great; k++) {
+                    if (arr[k] == p) {
+                        swap(arr, k, less++);
+                    } else if (arr[k] == q) {
+                        while (arr[great] == q && k < great) {
+                            great--;
+                        }
+                        swap(arr, k, great--);
+                        if (arr[k] == p) {
+                            swap(arr, k, less++);
+                        }
+                    }
+                }
+                introSort(arr, less, great, depthLimit);
+            }
+            lo = gt + 1;
+        }
+        insertionSort(arr, lo, hi + 1);
+    }
+
+    /**
+     * 对区间[lo,hi)进行插入排序
+     *
+     * @param arr 待排数组
+     * @param lo  左边界(包含)
+     * @param hi  右边界(不包含)
+     */
+    private static void insertionSort(long[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            long e = arr[i];
+            int j;
+            for (j = i; j > lo && arr[j - 1] > e; j--) {
+                arr[j] = arr[j - 1];
+            }
+            arr[j] = e;
+        }
+    }
+
+    /**
+     * 对区间[lo,hi)进行堆排序
+     * -- 自底向上构建大根堆,再依次将堆顶放到末尾
+     *
+     * @param arr 待排数组
+     * @param lo  左边界(包含)
+     * @param hi  右边界(不包含)
+     */
+    private static void heapSort(long[] arr, int lo, int hi) {
+        int size = hi - lo;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            heapify(arr, lo, i, size);
+        }
+        while (size > 1) {
+            swap(arr, lo, lo + --size);
+            heapify(arr, lo, 0, size);
+        }
+    }
+
+    /**
+     * 对以base为起点的堆,从index位置开始,左右两个孩子的最大值和父亲节点位置进行交换
+     * -- index与size均为相对base的偏移量
+     *
+     * @param arr   原数组
+     * @param base  堆在数组中的起始位置
+     * @param index index位置
+     * @param size  堆的大小
+     */
+    private static void heapify(long[] arr, int base, int index, int size) {
+        // 左孩子的索引
+        int left = index * 2 + 1;
+        while (left < size) {
+            // 在left+1(右孩子的索引)不越界的情况下,比较左右孩子的值,取出其中较大值的索引
+            int largest = left + 1 < size && arr[base + left + 1] > arr[base + left] ? left + 1 : left;
+            // 将左右孩子中的较大值和index所表示的值进行比较
+            largest = arr[base + largest] > arr[base + index] ? largest : index;
+
+            // 若较大值大于父亲的值,交换largest所表示的值与父亲节点的值
+            // 再将原父亲节点的索引改为largest -- 来方便对下一层次的进行调整
+            if (largest == index) {
+                break;
+            }
+            swap(arr, base + largest, base + index);
+            index = largest;
+            // 从largest为父亲节点继续往下调整
+            left = index * 2 + 1;
+        }
+    }
+
+    /**
+     * 交换数据 -- 数组
+     *
+     * @param arr 数组
+     * @param i   待交换的值
+     * @param j   待交换的值
+     */
+    private static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    // END GENERATED IntroSort(long)
+
+    /* ---------------------------------- double[] ---------------------------------- */
+
+    /**
+     * 对double数组进行排序
+     *
+     * @param arr 待排数组
+     */
+    public static void sort(double[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * 对double数组的区间[from,to)进行排序
+     *
+     * -- NaN排在最后,-0.0排在0.0之前,与{@link Double#compare}一致
+     *
+     * @param arr  待排数组
+     * @param from 左边界(包含)
+     * @param to   右边界(不包含)
+     */
+    public static void sort(double[] arr, int from, int to) {
+        rangeCheck(arr.length, from, to);
+        // NaN移到末尾,-0.0转换为0.0并计数,剩余部分可以直接用<比较
+        int hi = to;
+        int negativeZeros = 0;
+        for (int i = from; i < hi; ) {
+            double v = arr[i];
+            if (v != v) {
+                arr[i] = arr[--hi];
+                arr[hi] = v;
+            } else {
+                if (v == 0.0d && Double.doubleToRawLongBits(v) < 0) {
+                    arr[i] = 0.0d;
+                    negativeZeros++;
+                }
+                i++;
+            }
+        }
+        introSort(arr, from, hi - 1, depthLimit(hi - from));
+        // -0.0排在0.0之前
+        if (negativeZeros > 0) {
+            int lo = from;
+            int r = hi;
+            while (lo < r) {
+                int mid = (lo + r) >>> 1;
+                if (arr[mid] < 0.0d) {
+                    lo = mid + 1;
+                } else {
+                    r = mid;
+                }
+            }
+            for (int i = 0; i < negativeZeros; i++) {
+                arr[lo + i] = -0.0d;
+            }
+        }
+    }
+
+    // BEGIN GENERATED IntroSort(double) -- 不要直接修改,见ArraySortsGenerator
+    /**
+     * 对区间[lo,hi]进行内省排序
+     *
+     * @param arr        待排数组
+     * @param lo         左边界
+     * @param hi         右边界
+     * @param depthLimit 剩余的递归深度
+     */
+    private static void introSort(double[] arr, int lo, int hi, int depthLimit) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 最右侧的区间通过循环处理,其余区间递归处理
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, lo, hi + 1);
+                return;
+            }
+            // 随机选取两个轴,分别放到区间两端,且arr[lo] <= arr[hi]
+            int len = hi - lo + 1;
+            swap(arr, lo, lo + random.nextInt(len));
+            swap(arr, hi, lo + random.nextInt(len));
+            if (arr[lo] > arr[hi]) {
+                swap(arr, lo, hi);
+            }
+            double p = arr[lo];
+            double q = arr[hi];
+            // 分区结果: [lo+1,lt) < p, [lt,k) 在[p,q]之间, (gt,hi-1] > q
+            int lt = lo + 1;
+            int gt = hi - 1;
+            int k = lt;
+            while (k <= gt) {
+                if (arr[k] < p) {
+                    swap(arr, k, lt++);
+                } else if (arr[k] > q) {
+                    while (arr[gt] > q && k < gt) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if (arr[k] < p) {
+                        swap(arr, k, lt++);
+                    }
+                }
+                k++;
+            }
+            // 将两个轴放到最终位置
+            swap(arr, lo, --lt);
+            swap(arr, hi, ++gt);
+
+            introSort(arr, lo, lt - 1, depthLimit);
+            if (p < q) {
+                // 中间区间中等于p或q的元素已经在最终位置,将它们分别移到两侧,避免重复元素较多时反复分区
+                int less = lt + 1;
+                int great = gt - 1;
+                while (less <= great && arr[less] == p) {
+                    less++;
+                }
+                while (less <= great && arr[great] == q) {
+                    great--;
+                }
+                for (k = less; k <= great; k++) {
+                    if (arr[k] == p) {
+                        swap(arr, k, less++);
+                    } else if (arr[k] == q) {
+                        while (arr[great] == q && k < great) {
+                            great--;
+                        }
+                        swap(arr, k, great--);
+                        if (arr[k] == p) {
+                            swap(arr, k, less++);
+                        }
+                    }
+                }
+                introSort(arr, less, great, depthLimit);
+            }
+            lo = gt + 1;
+        }
+        insertionSort(arr, lo, hi + 1);
+    }
+
+    /**
+     * 对区间[lo,hi)进行插入排序
+     *
+     * @param arr 待排数组
+     * @param lo  左边界(包含)
+     * @param hi  右边界(不包含)
+     */
+    private static void insertionSort(double[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            double e = arr[i];
+            int j;
+            for (j = i; j > lo && arr[j - 1] > e; j--) {
+                arr[j] = arr[j - 1];
+            }
+            arr[j] = e;
+        }
+    }
+
+    /**
+     * 对区间[lo,hi)进行堆排序
+     * -- 自底向上构建大根堆,再依次将堆顶放到末尾
+     *
+     * @param arr 待排数组
+     * @param lo  左边界(包含)
+     * @param hi  右边界(不包含)
+     */
+    private static void heapSort(double[] arr, int lo, int hi) {
+        int size = hi - lo;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            heapify(arr, lo, i, size);
+        }
+        while (size > 1) {
+            swap(arr, lo, lo + --size);
+            heapify(arr, lo, 0, size);
+        }
+    }
+
+    /**
+     * 对以base为起点的堆,从index位置开始,左右两个孩子的最大值和父亲节点位置进行交换
+     * -- index与size均为相对base的偏移量
+     *
+     * @param arr   原数组
+     * @param base  堆在数组中的起始位置
+     * @param index index位置
+     * @param size  堆的大小
+     */
+    private static void heapify(double[] arr, int base, int index, int size) {
+        // 左孩子的索引
+        int left = index * 2 + 1;
+        while (left < size) {
+            // 在left+1(右孩子的索引)不越界的情况下,比较左右孩子的值,取出其中较大值的索引
+            int largest = left + 1 < size && arr[base + left + 1] > arr[base + left] ? left + 1 : left;
+            // 将左右孩子中的较大值和index所表示的值进行比较
+            largest = arr[base + largest] > arr[base + index] ? largest : index;
+
+            // 若较大值大于父亲的值,交换largest所表示的值与父亲节点的值
+            // 再将原父亲节点的索引改为largest -- 来方便对下一层次的进行调整
+            if (largest == index) {
+                break;
+            }
+            swap(arr, base + largest, base + index);
+            index = largest;
+            // 从largest为父亲节点继续往下调整
+            left = index * 2 + 1;
+        }
+    }
+
+    /**
+     * 交换数据 -- 数组
+     *
+     * @param arr 数组
+     * @param i   待交换的值
+     * @param j   待交换的值
+     */
+    private static void swap(double[] arr, int i, int j) {
+        double temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    // END GENERATED IntroSort(double)
+
+    /* ---------------------------------- float[] ---------------------------------- */
+
+    /**
+     * 对float数组进行排序
+     *
+     * @param arr 待排数组
+     */
+    public static void sort(float[] arr) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length);
+    }
+
+    /**
+     * 对float数组的区间[from,to)进行排序
+     *
+     * -- NaN排在最后,-0.0排在0.0之前,与{@link Float#compare}一致
+     *
+     * @param arr  待排数组
+     * @param from 左边界(包含)
+     * @param to   右边界(不包含)
+     */
+    public static void sort(float[] arr, int from, int to) {
+        rangeCheck(arr.length, from, to);
+        // NaN移到末尾,-0.0转换为0.0并计数,剩余部分可以直接用<比较
+        int hi = to;
+        int negativeZeros = 0;
+        for (int i = from; i < hi; ) {
+            float v = arr[i];
+            if (v != v) {
+                arr[i] = arr[--hi];
+                arr[hi] = v;
+            } else {
+                if (v == 0.0f && Float.floatToRawIntBits(v) < 0) {
+                    arr[i] = 0.0f;
+                    negativeZeros++;
+                }
+                i++;
+            }
+        }
+        introSort(arr, from, hi - 1, depthLimit(hi - from));
+        // -0.0排在0.0之前
+        if (negativeZeros > 0) {
+            int lo = from;
+            int r = hi;
+            while (lo < r) {
+                int mid = (lo + r) >>> 1;
+                if (arr[mid] < 0.0f) {
+                    lo = mid + 1;
+                } else {
+                    r = mid;
+                }
+            }
+            for (int i = 0; i < negativeZeros; i++) {
+                arr[lo + i] = -0.0f;
+            }
+        }
+    }
+
+    // BEGIN GENERATED IntroSort(float) -- 不要直接修改,见ArraySortsGenerator
+    /**
+     * 对区间[lo,hi]进行内省排序
+     *
+     * @param arr        待排数组
+     * @param lo         左边界
+     * @param hi         右边界
+     * @param depthLimit 剩余的递归深度
+     */
+    private static void introSort(float[] arr, int lo, int hi, int depthLimit) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 最右侧的区间通过循环处理,其余区间递归处理
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, lo, hi + 1);
+                return;
+            }
+            // 随机选取两个轴,分别放到区间两端,且arr[lo] <= arr[hi]
+            int len = hi - lo + 1;
+            swap(arr, lo, lo + random.nextInt(len));
+            swap(arr, hi, lo + random.nextInt(len));
+            if (arr[lo] > arr[hi]) {
+                swap(arr, lo, hi);
+            }
+            float p = arr[lo];
+            float q = arr[hi];
+            // 分区结果: [lo+1,lt) < p, [lt,k) 在[p,q]之间, (gt,hi-1] > q
+            int lt = lo + 1;
+            int gt = hi - 1;
+            int k = lt;
+            while (k <= gt) {
+                if (arr[k] < p) {
+                    swap(arr, k, lt++);
+                } else if (arr[k] > q) {
+                    while (arr[gt] > q && k < gt) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if (arr[k] < p) {
+                        swap(arr, k, lt++);
+                    }
+                }
+                k++;
+            }
+            // 将两个轴放到最终位置
+            swap(arr, lo, --lt);
+            swap(arr, hi, ++gt);
+
+            introSort(arr, lo, lt - 1, depthLimit);
+            if (p < q) {
+                // 中间区间中等于p或q的元素已经在最终位置,将它们分别移到两侧,避免重复元素较多时反复分区
+                int less = lt + 1;
+                int great = gt - 1;
+                while (less <= great && arr[less] == p) {
+                    less++;
+                }
+                while (less <= great && arr[great] == q) {
+                    great--;
+                }
+                for (k = less; k <= great; k++) {
+                    if (arr[k] == p) {
+                        swap(arr, k, less++);
+                    } else if (arr[k] == q) {
+                        while (arr[great] == q && k < great) {
+                            great--;
+                        }
+                        swap(arr, k, great--);
+                        if (arr[k] == p) {
+                            swap(arr, k, less++);
+                        }
+                    }
+                }
+                introSort(arr, less, great, depthLimit);
+            }
+            lo = gt + 1;
+        }
+        insertionSort(arr, lo, hi + 1);
+    }
+
+    /**
+     * 对区间[lo,hi)进行插入排序
+     *
+     * @param arr 待排数组
+     * @param lo  左边界(包含)
+     * @param hi  右边界(不包含)
+     */
+    private static void insertionSort(float[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            float e = arr[i];
+            int j;
+            for (j = i; j > lo && arr[j - 1] > e; j--) {
+                arr[j] = arr[j - 1];
+            }
+            arr[j] = e;
+        }
+    }
+
+    /**
+     * 对区间[lo,hi)进行堆排序
+     * -- 自底向上构建大根堆,再依次将堆顶放到末尾
+     *
+     * @param arr 待排数组
+     * @param lo  左边界(包含)
+     * @param hi  右边界(不包含)
+     */
+    private static void heapSort(float[] arr, int lo, int hi) {
+        int size = hi - lo;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            heapify(arr, lo, i, size);
+        }
+        while (size > 1) {
+            swap(arr, lo, lo + --size);
+            heapify(arr, lo, 0, size);
+        }
+    }
+
+    /**
+     * 对以base为起点的堆,从index位置开始,左右两个孩子的最大值和父亲节点位置进行交换
+     * -- index与size均为相对base的偏移量
+     *
+     * @param arr   原数组
+     * @param base  堆在数组中的起始位置
+     * @param index index位置
+     * @param size  堆的大小
+     */
+    private static void heapify(float[] arr, int base, int index, int size) {
+        // 左孩子的索引
+        int left = index * 2 + 1;
+        while (left < size) {
+            // 在left+1(右孩子的索引)不越界的情况下,比较左右孩子的值,取出其中较大值的索引
+            int largest = left + 1 < size && arr[base + left + 1] > arr[base + left] ? left + 1 : left;
+            // 将左右孩子中的较大值和index所表示的值进行比较
+            largest = arr[base + largest] > arr[base + index] ? largest : index;
+
+            // 若较大值大于父亲的值,交换largest所表示的值与父亲节点的值
+            // 再将原父亲节点的索引改为largest -- 来方便对下一层次的进行调整
+            if (largest == index) {
+                break;
+            }
+            swap(arr, base + largest, base + index);
+            index = largest;
+            // 从largest为父亲节点继续往下调整
+            left = index * 2 + 1;
+        }
+    }
+
+    /**
+     * 交换数据 -- 数组
+     *
+     * @param arr 数组
+     * @param i   待交换的值
+     * @param j   待交换的值
+     */
+    private static void swap(float[] arr, int i, int j) {
+        float temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    // END GENERATED IntroSort(float)
+
+    /* ---------------------------------- T[] ---------------------------------- */
+
+    /**
+     * 使用比较器对对象数组进行排序,排序是稳定的
+     *
+     * @param arr        待排数组
+     * @param comparator 比较器
+     * @param <T>        元素类型
+     */
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        if (arr == null) {
+            return;
+        }
+        sort(arr, 0, arr.length, comparator);
+    }
+
+    /**
+     * 使用比较器对对象数组的区间[from,to)进行排序,排序是稳定的
+     *
+     * @param arr        待排数组
+     * @param from       左边界(包含)
+     * @param to         右边界(不包含)
+     * @param comparator 比较器
+     * @param <T>        元素类型
+     */
+    public static <T> void sort(T[] arr, int from, int to, Comparator<? super T> comparator) {
+        rangeCheck(arr.length, from, to);
+        if (to - from < 2) {
+            return;
+        }
+        // 只分配一次辅助数组,递归时辅助数组与原数组轮流作为源和目标
+        T[] aux = Arrays.copyOfRange(arr, from, to);
+        mergeSort(aux, arr, from, to, -from, comparator);
+    }
+
+    /**
+     * 将src中的数据归并排序后放入dest的区间[low,high)
+     * -- 调用前src与dest中的数据相同,src中对应区间的起点为low+off
+     */
+    private static <T> void mergeSort(T[] src, T[] dest, int low, int high, int off,
+                                      Comparator<? super T> comparator) {
+        int length = high - low;
+        if (length <= INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                T e = dest[i];
+                int j;
+                for (j = i; j > low && comparator.compare(dest[j - 1], e) > 0; j--) {
+                    dest[j] = dest[j - 1];
+                }
+                dest[j] = e;
+            }
+            return;
+        }
+        int destLow = low;
+        int destHigh = high;
+        low += off;
+        high += off;
+        int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, -off, comparator);
+        mergeSort(dest, src, mid, high, -off, comparator);
+
+        // 左半部分的最大值不大于右半部分的最小值,已经有序,直接拷贝
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, destLow, length);
+            return;
+        }
+        for (int i = destLow, p = low, q = mid; i < destHigh; i++) {
+            if (q >= high || p < mid && comparator.compare(src[p], src[q]) <= 0) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    /* ---------------------------------- 公共方法 ---------------------------------- */
+
+    /**
+     * 内省排序的递归深度上限 2*log2(n)
+     */
+    private static int depthLimit(int n) {
+        return n < 2 ? 0 : 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * 校验区间[from,to)是否合法
+     */
+    private static void rangeCheck(int length, int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > length) {
+            throw new IllegalArgumentException("Range [" + from + ", " + to + ") is out of bound [0, " + length + ")");
+        }
+    }
+}
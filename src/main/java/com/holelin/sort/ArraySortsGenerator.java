@@ -0,0 +1,111 @@
+package com.holelin.sort;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ClassName: ArraySortsGenerator
+ * 由模板生成各基本类型的内省排序
+ * -- 模板为src/main/templates/com/holelin/sort/IntroSort.template,其中的${type}替换为元素类型
+ * -- 生成到{@link Sorts}(int)和{@link ArraySorts}(long、double、float)中BEGIN GENERATED和END GENERATED
+ * 两行注释之间,这些部分不要直接修改
+ * -- 在项目根目录运行: 不带参数时重新生成;带--check时只检查,不一致则以状态1退出
+ * (ArraySortsTest同样会做这项检查)
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+final class ArraySortsGenerator {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    static final String TEMPLATE = "src/main/templates/com/holelin/sort/IntroSort.template";
+    private static final String SOURCE_DIR = "src/main/java/com/holelin/sort/";
+    /**
+     * 目标文件及其中生成的类型
+     */
+    private static final String[][] TARGETS = {
+            {"Sorts.java", "int"},
+            {"ArraySorts.java", "long", "double", "float"}
+    };
+
+    private ArraySortsGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean check = args.length > 0 && "--check".equals(args[0]);
+        List<String> stale = generate(new File("."), !check);
+        for (String s : stale) {
+            System.out.println((check ? "Out of date: " : "Regenerated: ") + s);
+        }
+        if (check && !stale.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 检查或重新生成所有目标文件中的生成部分
+     *
+     * @param root  项目根目录
+     * @param write 是否写回与模板不一致的文件
+     * @return 与模板不一致的部分,形如"Sorts.java: int"
+     */
+    static List<String> generate(File root, boolean write) throws IOException {
+        String template = read(new File(root, TEMPLATE));
+        List<String> stale = new ArrayList<>();
+        for (String[] target : TARGETS) {
+            File file = new File(root, SOURCE_DIR + target[0]);
+            String source = read(file);
+            String updated = source;
+            for (int i = 1; i < target.length; i++) {
+                String expected = template.replace("${type}", target[i]);
+                if (!section(updated, target[0], target[i]).equals(expected)) {
+                    stale.add(target[0] + ": " + target[i]);
+                    updated = replaceSection(updated, target[0], target[i], expected);
+                }
+            }
+            if (write && !updated.equals(source)) {
+                Files.write(file.toPath(), updated.getBytes(UTF_8));
+            }
+        }
+        return stale;
+    }
+
+    static String beginMarker(String type) {
+        return "    // BEGIN GENERATED IntroSort(" + type + ") -- 不要直接修改,见ArraySortsGenerator\n";
+    }
+
+    static String endMarker(String type) {
+        return "    // END GENERATED IntroSort(" + type + ")\n";
+    }
+
+    /**
+     * @return 两个标记之间的内容
+     */
+    private static String section(String source, String fileName, String type) {
+        int begin = find(source, beginMarker(type), fileName) + beginMarker(type).length();
+        return source.substring(begin, find(source, endMarker(type), fileName));
+    }
+
+    private static String replaceSection(String source, String fileName, String type, String content) {
+        int begin = find(source, beginMarker(type), fileName) + beginMarker(type).length();
+        int end = find(source, endMarker(type), fileName);
+        return source.substring(0, begin) + content + source.substring(end);
+    }
+
+    private static int find(String source, String marker, String fileName) {
+        int index = source.indexOf(marker);
+        if (index < 0) {
+            throw new IllegalArgumentException(fileName + " has no marker: " + marker.trim());
+        }
+        return index;
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), UTF_8);
+    }
+}
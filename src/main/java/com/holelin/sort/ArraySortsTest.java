@@ -0,0 +1,165 @@
+package com.holelin.sort;
+
+import com.holelin.util.TestConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ClassName: ArraySortsTest
+ * long[]、double[]、float[]及对象数组排序的测试,并检查生成的各类型排序与模板一致
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ArraySortsTest {
+    public static void main(String[] args) throws IOException {
+        Random random = new Random();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < TestConfig.TEST_TIME / 10; i++) {
+            int n = random.nextInt(TestConfig.SMALL_SIZE + 1);
+            // 随机选取排序区间
+            int from = n == 0 ? 0 : random.nextInt(n);
+            int to = from + random.nextInt(n - from + 1);
+
+            long[] longs = new long[n];
+            double[] doubles = new double[n];
+            float[] floats = new float[n];
+            Item[] items = new Item[n];
+            for (int j = 0; j < n; j++) {
+                longs[j] = random.nextLong() % TestConfig.MAX_VALUE;
+                doubles[j] = randomDouble(random);
+                floats[j] = (float) randomDouble(random);
+                items[j] = new Item(random.nextInt(10), j);
+            }
+            long[] longsCopy = Arrays.copyOf(longs, n);
+            double[] doublesCopy = Arrays.copyOf(doubles, n);
+            float[] floatsCopy = Arrays.copyOf(floats, n);
+
+            ArraySorts.sort(longs, from, to);
+            ArraySorts.sort(doubles, from, to);
+            ArraySorts.sort(floats, from, to);
+            ArraySorts.sort(items, from, to, Item.BY_KEY);
+            Arrays.sort(longsCopy, from, to);
+            Arrays.sort(doublesCopy, from, to);
+            Arrays.sort(floatsCopy, from, to);
+
+            if (!Arrays.equals(longs, longsCopy) || !Arrays.equals(doubles, doublesCopy)
+                    || !Arrays.equals(floats, floatsCopy) || !isStableSorted(items, from, to)) {
+                System.out.println("Fucking fucked!");
+                System.out.println(Arrays.toString(doubles));
+                System.out.println(Arrays.toString(doublesCopy));
+                return;
+            }
+        }
+        long endTime = System.nanoTime();
+        System.out.println("Nice~~~" + (endTime - startTime));
+
+        // 生成的各类型内省排序与模板一致(需在项目根目录运行)
+        if (new File(ArraySortsGenerator.TEMPLATE).exists()) {
+            List<String> stale = ArraySortsGenerator.generate(new File("."), false);
+            if (!stale.isEmpty()) {
+                throw new IllegalArgumentException("Error: out of date with template " + stale);
+            }
+            System.out.println("Generated sections match template.");
+        }
+
+        // 与int[]的内省排序比较效率
+        int n = 5000000;
+        int[] ints = new int[n];
+        long[] longs = new long[n];
+        double[] doubles = new double[n];
+        float[] floats = new float[n];
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextDouble();
+            floats[i] = random.nextFloat();
+            boxed[i] = ints[i];
+        }
+        for (int round = 0; round < 3; round++) {
+            startTime = System.nanoTime();
+            Sorts.introSort(Arrays.copyOf(ints, n));
+            endTime = System.nanoTime();
+            System.out.println("int[] IntroSort: " + (endTime - startTime) / 1000000000.0 + " s");
+
+            startTime = System.nanoTime();
+            ArraySorts.sort(Arrays.copyOf(longs, n));
+            endTime = System.nanoTime();
+            System.out.println("long[]: " + (endTime - startTime) / 1000000000.0 + " s");
+
+            startTime = System.nanoTime();
+            ArraySorts.sort(Arrays.copyOf(doubles, n));
+            endTime = System.nanoTime();
+            System.out.println("double[]: " + (endTime - startTime) / 1000000000.0 + " s");
+
+            startTime = System.nanoTime();
+            ArraySorts.sort(Arrays.copyOf(floats, n));
+            endTime = System.nanoTime();
+            System.out.println("float[]: " + (endTime - startTime) / 1000000000.0 + " s");
+
+            startTime = System.nanoTime();
+            ArraySorts.sort(Arrays.copyOf(boxed, n), new Comparator<Integer>() {
+                @Override
+                public int compare(Integer o1, Integer o2) {
+                    return o1.compareTo(o2);
+                }
+            });
+            endTime = System.nanoTime();
+            System.out.println("Integer[]: " + (endTime - startTime) / 1000000000.0 + " s");
+            System.out.println();
+        }
+    }
+
+    /**
+     * 生成包含NaN、正负0和重复值的随机double
+     */
+    private static double randomDouble(Random random) {
+        switch (random.nextInt(8)) {
+            case 0:
+                return Double.NaN;
+            case 1:
+                return -0.0d;
+            case 2:
+                return 0.0d;
+            default:
+                return random.nextInt(TestConfig.MAX_VALUE) - TestConfig.MAX_VALUE / 2;
+        }
+    }
+
+    /**
+     * 判断区间[from,to)是否按key有序,且相等key保持原有顺序
+     */
+    private static boolean isStableSorted(Item[] items, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            if (items[i - 1].key > items[i].key
+                    || items[i - 1].key == items[i].key && items[i - 1].order > items[i].order) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Item {
+        static final Comparator<Item> BY_KEY = new Comparator<Item>() {
+            @Override
+            public int compare(Item o1, Item o2) {
+                return Integer.compare(o1.key, o2.key);
+            }
+        };
+        final int key;
+        final int order;
+
+        Item(int key, int order) {
+            this.key = key;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.holelin.sort;
+
+import com.holelin.util.NumberUtils;
+import com.holelin.util.TestConfig;
+
+import java.util.Random;
+
+/**
+ * ClassName: CountingSortTest
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class CountingSortTest {
+    public static void main(String[] args) {
+        long startTime = System.nanoTime();
+        boolean succeed = true;
+        for (int i = 0; i < TestConfig.TEST_TIME; i++) {
+            // 获取随机数组(包含负数)
+            int[] arr = NumberUtils.generateRandomArray(TestConfig.MAX_SIZE, TestConfig.MAX_VALUE);
+            // 拷贝数组数组
+            int[] copyArr = NumberUtils.copyArray(arr);
+            // 进行排序
+            Sorts.countingSort(arr);
+            // 对数器
+            NumberUtils.comparator(copyArr);
+            // 验证两个经过排序后的数组是否完全一样
+            if (!NumberUtils.isEqual(arr, copyArr)) {
+                // 不成功打印两个数组,方便查看错误
+                succeed = false;
+                NumberUtils.printArray(arr);
+                NumberUtils.printArray(copyArr);
+                break;
+            }
+        }
+        long endTime = System.nanoTime();
+        System.out.println(succeed ? "Nice~~~" + (endTime - startTime) : "Fucking fucked!");
+
+        // 值域远大于数组长度时改用基数排序,包括Integer.MIN_VALUE和Integer.MAX_VALUE
+        Random random = new Random();
+        int[] wide = new int[1000];
+        for (int i = 0; i < wide.length; i++) {
+            wide[i] = random.nextInt();
+        }
+        wide[0] = Integer.MIN_VALUE;
+        wide[1] = Integer.MAX_VALUE;
+        int[] wideCopy = NumberUtils.copyArray(wide);
+        Sorts.countingSort(wide);
+        NumberUtils.comparator(wideCopy);
+        if (!NumberUtils.isEqual(wide, wideCopy)) {
+            throw new IllegalArgumentException("Error");
+        }
+
+        // 与快速排序比较效率 -- 值域为[0, 1000)的随机int
+        int n = 5000000;
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = random.nextInt(1000);
+        }
+        for (int round = 0; round < 3; round++) {
+            int[] arr1 = NumberUtils.copyArray(data);
+            int[] arr2 = NumberUtils.copyArray(data);
+            double time1 = testSort(arr1, true);
+            double time2 = testSort(arr2, false);
+            if (!NumberUtils.isEqual(arr1, arr2)) {
+                throw new IllegalArgumentException("Error");
+            }
+            System.out.println("CountingSort: " + time1 + " s, QuickSort: " + time2 + " s");
+        }
+    }
+
+    private static double testSort(int[] arr, boolean isCounting) {
+        long startTime = System.nanoTime();
+        if (isCounting) {
+            Sorts.countingSort(arr);
+        } else {
+            Sorts.quickSort(arr);
+        }
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+}
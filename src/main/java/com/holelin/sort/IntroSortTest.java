@@ -0,0 +1,84 @@
+package com.holelin.sort;
+
+import com.holelin.util.NumberUtils;
+import com.holelin.util.TestConfig;
+
+import java.util.Random;
+
+/**
+ * ClassName: IntroSortTest
+ * 内省排序测试
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class IntroSortTest {
+    public static void main(String[] args) {
+        long startTime = System.nanoTime();
+        boolean succeed = true;
+        for (int i = 0; i < TestConfig.TEST_TIME; i++) {
+            // 获取随机数组
+            int[] arr = NumberUtils.generateRandomArray(TestConfig.MAX_SIZE, TestConfig.MAX_VALUE);
+            // 拷贝数组数组
+            int[] copyArr = NumberUtils.copyArray(arr);
+            // 进行排序
+            Sorts.introSort(arr);
+            // 对数器
+            NumberUtils.comparator(copyArr);
+            // 验证两个经过排序后的数组是否完全一样
+            if (!NumberUtils.isEqual(arr, copyArr)) {
+                // 不成功打印两个数组,方便查看错误
+                succeed = false;
+                NumberUtils.printArray(arr);
+                NumberUtils.printArray(copyArr);
+                break;
+            }
+        }
+        long endTime = System.nanoTime();
+        System.out.println(succeed ? "Nice~~~" + (endTime - startTime) : "Fucking fucked!");
+
+        // 有序、逆序、大量重复等特殊输入
+        int n = 5000000;
+        Random random = new Random();
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        int[] equal = new int[n];
+        int[] fewDistinct = new int[n];
+        int[] randomData = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - i;
+            equal[i] = 7;
+            fewDistinct[i] = random.nextInt(4);
+            randomData[i] = random.nextInt();
+        }
+        testSort("Sorted", sorted);
+        testSort("Reversed", reversed);
+        testSort("Equal", equal);
+        testSort("FewDistinct", fewDistinct);
+        testSort("Random", randomData);
+    }
+
+    private static void testSort(String name, int[] data) {
+        int[] expected = NumberUtils.copyArray(data);
+        NumberUtils.comparator(expected);
+
+        int[] arr1 = NumberUtils.copyArray(data);
+        long startTime = System.nanoTime();
+        Sorts.introSort(arr1);
+        long endTime = System.nanoTime();
+        if (!NumberUtils.isEqual(arr1, expected)) {
+            throw new IllegalArgumentException("Error");
+        }
+        double time1 = (endTime - startTime) / 1000000000.0;
+
+        int[] arr2 = NumberUtils.copyArray(data);
+        startTime = System.nanoTime();
+        Sorts.quickSort(arr2);
+        endTime = System.nanoTime();
+        double time2 = (endTime - startTime) / 1000000000.0;
+        System.out.println(name + " -- IntroSort: " + time1 + " s, QuickSort: " + time2 + " s");
+    }
+}
@@ -0,0 +1,76 @@
+package com.holelin.sort;
+
+import com.holelin.util.NumberUtils;
+import com.holelin.util.TestConfig;
+
+import java.util.Random;
+
+/**
+ * ClassName: ParallelMergeSortTest
+ * 并行归并排序测试
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ParallelMergeSortTest {
+    public static void main(String[] args) {
+        long startTime = System.nanoTime();
+        boolean succeed = true;
+        for (int i = 0; i < TestConfig.TEST_TIME; i++) {
+            // 获取随机数组
+            int[] arr = NumberUtils.generateRandomArray(TestConfig.MAX_SIZE, TestConfig.MAX_VALUE);
+            // 拷贝数组数组
+            int[] copyArr = NumberUtils.copyArray(arr);
+            // 进行排序
+            Sorts.parallelMergeSort(arr, 1);
+            // 对数器
+            NumberUtils.comparator(copyArr);
+            // 验证两个经过排序后的数组是否完全一样
+            if (!NumberUtils.isEqual(arr, copyArr)) {
+                // 不成功打印两个数组,方便查看错误
+                succeed = false;
+                NumberUtils.printArray(arr);
+                NumberUtils.printArray(copyArr);
+                break;
+            }
+        }
+        long endTime = System.nanoTime();
+        System.out.println(succeed ? "Nice~~~" + (endTime - startTime) : "Fucking fucked!");
+
+        // 大数组上验证并行路径,并比较不同并行度下的效率
+        int n = 10000000;
+        Random random = new Random();
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = random.nextInt();
+        }
+        int[] expected = NumberUtils.copyArray(data);
+        NumberUtils.comparator(expected);
+
+        int[] arr = NumberUtils.copyArray(data);
+        startTime = System.nanoTime();
+        Sorts.mergeSort(arr);
+        endTime = System.nanoTime();
+        System.out.println("MergeSort: " + (endTime - startTime) / 1000000000.0 + " s");
+
+        int maxParallelism = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; parallelism <= maxParallelism; parallelism <<= 1) {
+            arr = NumberUtils.copyArray(data);
+            startTime = System.nanoTime();
+            Sorts.parallelMergeSort(arr, parallelism);
+            endTime = System.nanoTime();
+            if (!NumberUtils.isEqual(arr, expected)) {
+                throw new IllegalArgumentException("Error");
+            }
+            System.out.println("ParallelMergeSort(" + parallelism + "): " + (endTime - startTime) / 1000000000.0 + " s");
+        }
+        // 并行度大于CPU核数时同样要保证正确
+        arr = NumberUtils.copyArray(data);
+        Sorts.parallelMergeSort(arr, 4);
+        if (!NumberUtils.isEqual(arr, expected)) {
+            throw new IllegalArgumentException("Error");
+        }
+    }
+}
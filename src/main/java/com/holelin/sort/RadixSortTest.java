@@ -0,0 +1,70 @@
+package com.holelin.sort;
+
+import com.holelin.util.NumberUtils;
+import com.holelin.util.TestConfig;
+
+import java.util.Random;
+
+/**
+ * ClassName: RadixSortTest
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class RadixSortTest {
+    public static void main(String[] args) {
+        long startTime = System.nanoTime();
+        boolean succeed = true;
+        for (int i = 0; i < TestConfig.TEST_TIME; i++) {
+            // 获取随机数组(包含负数)
+            int[] arr = NumberUtils.generateRandomArray(TestConfig.MAX_SIZE, TestConfig.MAX_VALUE);
+            // 拷贝数组数组
+            int[] copyArr = NumberUtils.copyArray(arr);
+            // 进行排序
+            Sorts.radixSort(arr);
+            // 对数器
+            NumberUtils.comparator(copyArr);
+            // 验证两个经过排序后的数组是否完全一样
+            if (!NumberUtils.isEqual(arr, copyArr)) {
+                // 不成功打印两个数组,方便查看错误
+                succeed = false;
+                NumberUtils.printArray(arr);
+                NumberUtils.printArray(copyArr);
+                break;
+            }
+        }
+        long endTime = System.nanoTime();
+        System.out.println(succeed ? "Nice~~~" + (endTime - startTime) : "Fucking fucked!");
+
+        // 与快速排序比较效率 -- 全范围的随机int
+        int n = 5000000;
+        Random random = new Random();
+        int[] data = new int[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = random.nextInt();
+        }
+        for (int round = 0; round < 3; round++) {
+            int[] arr1 = NumberUtils.copyArray(data);
+            int[] arr2 = NumberUtils.copyArray(data);
+            double time1 = testSort(arr1, true);
+            double time2 = testSort(arr2, false);
+            if (!NumberUtils.isEqual(arr1, arr2)) {
+                throw new IllegalArgumentException("Error");
+            }
+            System.out.println("RadixSort: " + time1 + " s, QuickSort: " + time2 + " s");
+        }
+    }
+
+    private static double testSort(int[] arr, boolean isRadix) {
+        long startTime = System.nanoTime();
+        if (isRadix) {
+            Sorts.radixSort(arr);
+        } else {
+            Sorts.quickSort(arr);
+        }
+        long endTime = System.nanoTime();
+        return (endTime - startTime) / 1000000000.0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.holelin.sort;
+
+import com.holelin.util.NumberUtils;
+import com.holelin.util.TestConfig;
+
+import java.util.Random;
+
+/**
+ * ClassName: SelectTest
+ * 快速选择测试
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class SelectTest {
+    public static void main(String[] args) {
+        Random random = new Random();
+        for (int i = 0; i < TestConfig.TEST_TIME; i++) {
+            int[] arr = NumberUtils.generateRandomArray(TestConfig.MAX_SIZE, TestConfig.MAX_VALUE);
+            if (arr.length == 0) {
+                continue;
+            }
+            int k = random.nextInt(arr.length);
+            int[] sorted = NumberUtils.copyArray(arr);
+            NumberUtils.comparator(sorted);
+            int e = Sorts.select(arr, k);
+            if (e != sorted[k] || arr[k] != e) {
+                throw new IllegalArgumentException("Error");
+            }
+            // 左侧都不大于arr[k],右侧都不小于arr[k]
+            for (int j = 0; j < arr.length; j++) {
+                if ((j < k && arr[j] > e) || (j > k && arr[j] < e)) {
+                    throw new IllegalArgumentException("Error");
+                }
+            }
+        }
+        System.out.println("Test select completed.");
+
+        // 取中位数和前1000大: 选择与排序对比
+        int n = 10000000;
+        int[] sorted = new int[n];
+        int[] equal = new int[n];
+        int[] randomData = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            equal[i] = 7;
+            randomData[i] = random.nextInt();
+        }
+        testSelect("Sorted", sorted, n / 2);
+        testSelect("Equal", equal, n / 2);
+        testSelect("Random", randomData, n / 2);
+        testSelect("Random top-1000", randomData, n - 1000);
+    }
+
+    private static void testSelect(String name, int[] data, int k) {
+        int[] arr1 = NumberUtils.copyArray(data);
+        long startTime = System.nanoTime();
+        int e = Sorts.select(arr1, k);
+        long endTime = System.nanoTime();
+        double time1 = (endTime - startTime) / 1000000000.0;
+
+        int[] arr2 = NumberUtils.copyArray(data);
+        startTime = System.nanoTime();
+        Sorts.introSort(arr2);
+        endTime = System.nanoTime();
+        double time2 = (endTime - startTime) / 1000000000.0;
+        if (e != arr2[k]) {
+            throw new IllegalArgumentException("Error");
+        }
+        System.out.println(name + " -- select: " + time1 + " s, IntroSort: " + time2 + " s");
+    }
+}
@@ -1,6 +1,9 @@
 package com.holelin.sort;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 排序类
@@ -11,6 +14,31 @@ import java.util.Arrays;
  * @date 2019/1/14
  */
 class Sorts {
+    /**
+     * 基数排序中每个基数位的取值个数(8位)
+     */
+    private static final int RADIX = 256;
+    /**
+     * int需要的趟数
+     */
+    private static final int RADIX_PASSES = 4;
+    /**
+     * 计数排序中值域不超过该值(或数组长度)时直接使用计数数组
+     */
+    private static final int COUNTING_SORT_RANGE = 1 << 16;
+    /**
+     * 区间长度小于该值时使用插入排序
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    /**
+     * 并行归并排序中,区间长度小于该值时不再拆分任务
+     */
+    private static final int PARALLEL_SORT_GRANULARITY = 1 << 13;
+    /**
+     * 并行合并中,待合并的元素个数小于该值时不再拆分任务
+     */
+    private static final int PARALLEL_MERGE_GRANULARITY = 1 << 14;
+
     private Sorts() {
     }
 
@@ -177,6 +205,200 @@ class Sorts {
         return new int[]{less + 1, more};
     }
 
+    /**
+     * 内省排序
+     * -- 双轴快速排序,轴由ThreadLocalRandom随机选取,分区边界保存在局部变量中,不分配数组
+     * -- 递归深度超过2*log2(n)时改用堆排序,保证最坏O(nlogn)且栈深度有界
+     * -- 区间较小时使用插入排序
+     *
+     * @param arr 待排数组
+     */
+    public static void introSort(int[] arr) {
+        if (checkArray(arr)) {
+            return;
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(arr.length));
+        introSort(arr, 0, arr.length - 1, depthLimit);
+    }
+
+    /**
+     * 对区间[from,to)进行内省排序
+     *
+     * @param arr  待排数组
+     * @param from 左边界(包含)
+     * @param to   右边界(不包含)
+     */
+    public static void introSort(int[] arr, int from, int to) {
+        if (from > to || from < 0 || to > arr.length) {
+            throw new IllegalArgumentException("Range [" + from + ", " + to + ") is illegal");
+        }
+        if (to - from < 2) {
+            return;
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(to - from));
+        introSort(arr, from, to - 1, depthLimit);
+    }
+
+    // BEGIN GENERATED IntroSort(int) -- 不要直接修改,见ArraySortsGenerator
+    /**
+     * 对区间[lo,hi]进行内省排序
+     *
+     * @param arr        待排数组
+     * @param lo         左边界
+     * @param hi         右边界
+     * @param depthLimit 剩余的递归深度
+     */
+    private static void introSort(int[] arr, int lo, int hi, int depthLimit) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 最右侧的区间通过循环处理,其余区间递归处理
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, lo, hi + 1);
+                return;
+            }
+            // 随机选取两个轴,分别放到区间两端,且arr[lo] <= arr[hi]
+            int len = hi - lo + 1;
+            swap(arr, lo, lo + random.nextInt(len));
+            swap(arr, hi, lo + random.nextInt(len));
+            if (arr[lo] > arr[hi]) {
+                swap(arr, lo, hi);
+            }
+            int p = arr[lo];
+            int q = arr[hi];
+            // 分区结果: [lo+1,lt) < p, [lt,k) 在[p,q]之间, (gt,hi-1] > q
+            int lt = lo + 1;
+            int gt = hi - 1;
+            int k = lt;
+            while (k <= gt) {
+                if (arr[k] < p) {
+                    swap(arr, k, lt++);
+                } else if (arr[k] > q) {
+                    while (arr[gt] > q && k < gt) {
+                        gt--;
+                    }
+                    swap(arr, k, gt--);
+                    if (arr[k] < p) {
+                        swap(arr, k, lt++);
+                    }
+                }
+                k++;
+            }
+            // 将两个轴放到最终位置
+            swap(arr, lo, --lt);
+            swap(arr, hi, ++gt);
+
+            introSort(arr, lo, lt - 1, depthLimit);
+            if (p < q) {
+                // 中间区间中等于p或q的元素已经在最终位置,将它们分别移到两侧,避免重复元素较多时反复分区
+                int less = lt + 1;
+                int great = gt - 1;
+                while (less <= great && arr[less] == p) {
+                    less++;
+                }
+                while (less <= great && arr[great] == q) {
+                    great--;
+                }
+                for (k = less; k <= great; k++) {
+                    if (arr[k] == p) {
+                        swap(arr, k, less++);
+                    } else if (arr[k] == q) {
+                        while (arr[great] == q && k < great) {
+                            great--;
+                        }
+                        swap(arr, k, great--);
+                        if (arr[k] == p) {
+                            swap(arr, k, less++);
+                        }
+                    }
+                }
+                introSort(arr, less, great, depthLimit);
+            }
+            lo = gt + 1;
+        }
+        insertionSort(arr, lo, hi + 1);
+    }
+
+    /**
+     * 对区间[lo,hi)进行插入排序
+     *
+     * @param arr 待排数组
+     * @param lo  左边界(包含)
+     * @param hi  右边界(不包含)
+     */
+    private static void insertionSort(int[] arr, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int e = arr[i];
+            int j;
+            for (j = i; j > lo && arr[j - 1] > e; j--) {
+                arr[j] = arr[j - 1];
+            }
+            arr[j] = e;
+        }
+    }
+
+    /**
+     * 对区间[lo,hi)进行堆排序
+     * -- 自底向上构建大根堆,再依次将堆顶放到末尾
+     *
+     * @param arr 待排数组
+     * @param lo  左边界(包含)
+     * @param hi  右边界(不包含)
+     */
+    private static void heapSort(int[] arr, int lo, int hi) {
+        int size = hi - lo;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            heapify(arr, lo, i, size);
+        }
+        while (size > 1) {
+            swap(arr, lo, lo + --size);
+            heapify(arr, lo, 0, size);
+        }
+    }
+
+    /**
+     * 对以base为起点的堆,从index位置开始,左右两个孩子的最大值和父亲节点位置进行交换
+     * -- index与size均为相对base的偏移量
+     *
+     * @param arr   原数组
+     * @param base  堆在数组中的起始位置
+     * @param index index位置
+     * @param size  堆的大小
+     */
+    private static void heapify(int[] arr, int base, int index, int size) {
+        // 左孩子的索引
+        int left = index * 2 + 1;
+        while (left < size) {
+            // 在left+1(右孩子的索引)不越界的情况下,比较左右孩子的值,取出其中较大值的索引
+            int largest = left + 1 < size && arr[base + left + 1] > arr[base + left] ? left + 1 : left;
+            // 将左右孩子中的较大值和index所表示的值进行比较
+            largest = arr[base + largest] > arr[base + index] ? largest : index;
+
+            // 若较大值大于父亲的值,交换largest所表示的值与父亲节点的值
+            // 再将原父亲节点的索引改为largest -- 来方便对下一层次的进行调整
+            if (largest == index) {
+                break;
+            }
+            swap(arr, base + largest, base + index);
+            index = largest;
+            // 从largest为父亲节点继续往下调整
+            left = index * 2 + 1;
+        }
+    }
+
+    /**
+     * 交换数据 -- 数组
+     *
+     * @param arr 数组
+     * @param i   待交换的值
+     * @param j   待交换的值
+     */
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+    // END GENERATED IntroSort(int)
+
     /**
      * 归并排序
      *
@@ -248,6 +470,203 @@ class Sorts {
         }
     }
 
+    /**
+     * 并行归并排序
+     * -- 基于ForkJoinPool,左右两部分并行排序,合并时通过二分查找确定拆分点,再并行合并
+     * -- 整个排序过程只分配一个与原数组等长的辅助数组,两个数组轮流作为源和目标,避免来回拷贝
+     * -- 区间较小时退化为插入排序
+     *
+     * @param arr         待排数组
+     * @param parallelism 并行度(线程数)
+     */
+    public static void parallelMergeSort(int[] arr, int parallelism) {
+        if (checkArray(arr)) {
+            return;
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        int[] buf = new int[arr.length];
+        // 任务粒度随并行度调整,保证每个线程有足够的任务可以窃取
+        int granularity = Math.max(PARALLEL_SORT_GRANULARITY, arr.length / (parallelism << 3));
+        if (parallelism == 1) {
+            mergeSortRange(arr, buf, 0, arr.length, false);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new MergeSortTask(arr, buf, 0, arr.length, false, granularity));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 对src的区间[lo,hi)进行归并排序
+     * -- intoDst为true时结果存放在dst的[lo,hi),否则存放在src的[lo,hi)
+     *
+     * @param src     待排数组
+     * @param dst     辅助数组
+     * @param lo      左边界(包含)
+     * @param hi      右边界(不包含)
+     * @param intoDst 结果是否存放在dst中
+     */
+    private static void mergeSortRange(int[] src, int[] dst, int lo, int hi, boolean intoDst) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(src, lo, hi);
+            if (intoDst) {
+                System.arraycopy(src, lo, dst, lo, hi - lo);
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // 左右两部分的结果存放在另一个数组中,合并时再写回目标数组
+        mergeSortRange(src, dst, lo, mid, !intoDst);
+        mergeSortRange(src, dst, mid, hi, !intoDst);
+        if (intoDst) {
+            mergeRuns(src, lo, mid, src, mid, hi, dst, lo);
+        } else {
+            mergeRuns(dst, lo, mid, dst, mid, hi, src, lo);
+        }
+    }
+
+    /**
+     * 将有序区间a[aLo,aHi)和b[bLo,bHi)合并到out中以outLo开始的位置
+     * -- 相等时取a中的元素,保证稳定
+     */
+    private static void mergeRuns(int[] a, int aLo, int aHi, int[] b, int bLo, int bHi, int[] out, int outLo) {
+        int i = aLo;
+        int j = bLo;
+        int k = outLo;
+        while (i < aHi && j < bHi) {
+            out[k++] = b[j] < a[i] ? b[j++] : a[i++];
+        }
+        if (i < aHi) {
+            System.arraycopy(a, i, out, k, aHi - i);
+        } else if (j < bHi) {
+            System.arraycopy(b, j, out, k, bHi - j);
+        }
+    }
+
+    /**
+     * 在有序区间arr[lo,hi)中查找第一个大于等于key的位置
+     */
+    private static int lowerBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 在有序区间arr[lo,hi)中查找第一个大于key的位置
+     */
+    private static int upperBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 并行归并排序任务
+     */
+    private static final class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo;
+        private final int hi;
+        private final boolean intoDst;
+        private final int granularity;
+
+        MergeSortTask(int[] src, int[] dst, int lo, int hi, boolean intoDst, int granularity) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.intoDst = intoDst;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= granularity) {
+                mergeSortRange(src, dst, lo, hi, intoDst);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new MergeSortTask(src, dst, lo, mid, !intoDst, granularity),
+                    new MergeSortTask(src, dst, mid, hi, !intoDst, granularity));
+            if (intoDst) {
+                new MergeTask(src, lo, mid, mid, hi, dst, lo).invoke();
+            } else {
+                new MergeTask(dst, lo, mid, mid, hi, src, lo).invoke();
+            }
+        }
+    }
+
+    /**
+     * 并行合并任务
+     * -- 取较长区间的中点,在另一区间中二分查找其位置(co-rank),将一次合并拆分为两个互不相关的合并
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] from;
+        private final int aLo;
+        private final int aHi;
+        private final int bLo;
+        private final int bHi;
+        private final int[] out;
+        private final int outLo;
+
+        MergeTask(int[] from, int aLo, int aHi, int bLo, int bHi, int[] out, int outLo) {
+            this.from = from;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.out = out;
+            this.outLo = outLo;
+        }
+
+        @Override
+        protected void compute() {
+            int aLen = aHi - aLo;
+            int bLen = bHi - bLo;
+            if (aLen + bLen <= PARALLEL_MERGE_GRANULARITY) {
+                mergeRuns(from, aLo, aHi, from, bLo, bHi, out, outLo);
+                return;
+            }
+            int aMid;
+            int bMid;
+            if (aLen >= bLen) {
+                aMid = (aLo + aHi) >>> 1;
+                // b中小于from[aMid]的元素排在它前面
+                bMid = lowerBound(from, bLo, bHi, from[aMid]);
+            } else {
+                bMid = (bLo + bHi) >>> 1;
+                // a中小于等于from[bMid]的元素排在它前面
+                aMid = upperBound(from, aLo, aHi, from[bMid]);
+            }
+            int outMid = outLo + (aMid - aLo) + (bMid - bLo);
+            invokeAll(new MergeTask(from, aLo, aMid, bLo, bMid, out, outLo),
+                    new MergeTask(from, aMid, aHi, bMid, bHi, out, outMid));
+        }
+    }
+
     /**
      * 堆排序
      * -- 大根堆
@@ -281,25 +700,7 @@ class Sorts {
      * @param size  堆的大小
      */
     private static void heapify(int[] arr, int index, int size) {
-        // 左孩子的索引
-        int left = index * 2 + 1;
-        while (left < size) {
-            // 在left+1(右孩子的索引)不越界的情况下,比较左右孩子的值,取出其中较大值的索引
-            int largest = left + 1 < size && arr[left + 1] > arr[left] ? left + 1 : left;
-            // 将左右孩子中的较大值和index所表示的值进行比较
-            largest = arr[largest] > arr[index] ? largest : index;
-
-            // 若较大值大于父亲的值,交换largest所表示的值与父亲节点的值
-            // 再将原父亲节点的索引改为largest -- 来方便对下一层次的进行调整
-            if (largest == index) {
-                break;
-            }
-            swap(arr, largest, index);
-            index = largest;
-            // 从largest为父亲节点继续往下调整
-            left = index * 2 + 1;
-        }
-
+        heapify(arr, 0, index, size);
     }
 
     /**
@@ -321,11 +722,65 @@ class Sorts {
 
     /**
      * TimSort排序
+     * -- 自适应的稳定归并排序,对近乎有序的数据接近O(n),实现见{@link TimSort}
      *
      * @param arr 待排数组
      */
     public static void timSort(int[] arr) {
+        if (checkArray(arr)) {
+            return;
+        }
+        TimSort.sort(arr, 0, arr.length);
+    }
 
+    /**
+     * 选择 -- 返回数组中第k小(从0开始)的元素,不需要对整个数组排序
+     * -- 快速选择: 随机选轴三路分区,只在包含k的一侧继续,期望O(n)
+     * -- 分区次数超过2*log2(n)时对剩余区间堆排序,保证最坏O(nlogn)(内省选择)
+     * -- 返回后arr[k]即为结果,arr[0,k)都不大于它,arr(k,n)都不小于它;
+     * 因此取前k小(或前k大)的元素时,select之后取对应的一侧即可
+     *
+     * @param arr 数组,会被重新排列
+     * @param k   名次,从0开始
+     * @return 第k小的元素
+     */
+    public static int select(int[] arr, int k) {
+        if (arr == null || k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k is out of bound");
+        }
+        int lo = 0;
+        int hi = arr.length - 1;
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(arr.length));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(arr, lo, hi + 1);
+                return arr[k];
+            }
+            int pivot = arr[lo + random.nextInt(hi - lo + 1)];
+            // 三路分区: [lo,lt) < pivot, [lt,gt] == pivot, (gt,hi] > pivot
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+            while (i <= gt) {
+                if (arr[i] < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (arr[i] > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return pivot;
+            }
+        }
+        insertionSort(arr, lo, hi + 1);
+        return arr[k];
     }
 
 
@@ -389,21 +844,105 @@ class Sorts {
     }
 
     /**
-     * 基数排序
+     * 基数排序 -- LSD(低位优先)
+     * 以8位为一个基数位,int共4趟,每趟为稳定的计数排序
+     * -- 先用一次遍历统计出4个基数位的频率,若某一基数位上所有数都相同,则跳过该趟
+     * -- 最高基数位与0x80异或,使负数排在正数之前
      *
      * @param arr 待排数组
      */
     static void radixSort(int[] arr) {
+        if (checkArray(arr)) {
+            return;
+        }
+        int n = arr.length;
+        // count[d][b] 表示第d个基数位上值为b的数出现的次数
+        int[][] count = new int[RADIX_PASSES][RADIX];
+        for (int i = 0; i < n; i++) {
+            int v = arr[i];
+            for (int d = 0; d < RADIX_PASSES; d++) {
+                count[d][radixDigit(v, d)]++;
+            }
+        }
+        // 整个排序过程只使用一个辅助数组,每趟结束后交换src和dst
+        int[] src = arr;
+        int[] dst = new int[n];
+        for (int d = 0; d < RADIX_PASSES; d++) {
+            int[] c = count[d];
+            // 所有数在该基数位上的值相同,这一趟不会改变顺序
+            if (c[radixDigit(src[0], d)] == n) {
+                continue;
+            }
+            // 将频率转换为每个桶的起始位置
+            int sum = 0;
+            for (int b = 0; b < RADIX; b++) {
+                int tmp = c[b];
+                c[b] = sum;
+                sum += tmp;
+            }
+            for (int i = 0; i < n; i++) {
+                int v = src[i];
+                dst[c[radixDigit(v, d)]++] = v;
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        // 排序结果落在了辅助数组上,拷贝回原数组
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
 
+    /**
+     * 获取v的第d个基数位(从低位开始)
+     * -- 最高基数位翻转符号位,使有符号数按无符号方式比较时顺序正确
+     *
+     * @param v 数值
+     * @param d 基数位
+     * @return 该基数位上的值[0, 255]
+     */
+    private static int radixDigit(int v, int d) {
+        int digit = (v >>> (d << 3)) & 0xFF;
+        return d == RADIX_PASSES - 1 ? digit ^ 0x80 : digit;
     }
 
     /**
-     * 基数排序
+     * 计数排序
+     * -- 统计[min,max]中每个值出现的次数,再按值从小到大依次写回,O(n + k),k = max - min + 1
+     * -- k大于数组长度和COUNTING_SORT_RANGE时计数数组过大,改用{@link #radixSort(int[])}
      *
      * @param arr 待排数组
      */
-    static void countiongSort(int[] arr) {
-
+    static void countingSort(int[] arr) {
+        if (checkArray(arr)) {
+            return;
+        }
+        int min = arr[0];
+        int max = arr[0];
+        for (int v : arr) {
+            if (v < min) {
+                min = v;
+            } else if (v > max) {
+                max = v;
+            }
+        }
+        long range = (long) max - min + 1;
+        if (range > Math.max(arr.length, COUNTING_SORT_RANGE)) {
+            radixSort(arr);
+            return;
+        }
+        // count[b] 表示值为min + b的数出现的次数
+        int[] count = new int[(int) range];
+        for (int v : arr) {
+            count[v - min]++;
+        }
+        int i = 0;
+        for (int b = 0; b < count.length; b++) {
+            for (int c = count[b]; c > 0; c--) {
+                arr[i++] = min + b;
+            }
+        }
     }
 
     /**
@@ -427,22 +966,5 @@ class Sorts {
         return arr == null || arr.length < 2;
     }
 
-    /**
-     * 交换数据 -- 数组
-     *
-     * @param arr 数组
-     * @param i   待交换的值
-     * @param j   待交换的值
-     */
-    private static void swap(int[] arr, int i, int j) {
-        int temp = arr[i];
-        arr[i] = arr[j];
-        arr[j] = temp;
-        // 使用异或运算实现交换操作
-//        arr[i] = arr[i] ^ arr[j];
-//        arr[j] = arr[i] ^ arr[j];
-//        arr[i] = arr[i] ^ arr[j];
-    }
-
 
 }
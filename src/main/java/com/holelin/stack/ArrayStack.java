@@ -1,9 +1,10 @@
 package com.holelin.stack;
 
-import com.holelin.array.Array;
+import com.holelin.array.ArrayDeque;
 
 /**
  * ClassName: ArrayStack
+ * 基于{@link ArrayDeque}的栈,与ArrayQueue共用同一底层结构
  *
  * @author HoleLin
  * @version 1.0
@@ -11,7 +12,7 @@ import com.holelin.array.Array;
  */
 
 public class ArrayStack<E> implements Stack<E> {
-    private Array<E> mArray;
+    private ArrayDeque<E> mArray;
 
     /**
      * 创建指定栈的容量
@@ -19,14 +20,14 @@ public class ArrayStack<E> implements Stack<E> {
      * @param capacity
      */
     public ArrayStack(int capacity) {
-        mArray = new Array<>(capacity);
+        mArray = new ArrayDeque<>(capacity);
     }
 
     /**
      * 创建使用默认容量的栈
      */
     public ArrayStack() {
-        mArray = new Array<>();
+        mArray = new ArrayDeque<>();
     }
 
     public int getCapacity() {
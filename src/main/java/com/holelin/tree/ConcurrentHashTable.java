@@ -0,0 +1,375 @@
+package com.holelin.tree;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ClassName: ConcurrentHashTable
+ * 线程安全的哈希表 -- 分段锁
+ * <p>
+ * 1. 地址按哈希值的高位划分为若干段(Segment),每段一把锁,拥有自己的表,扩容也只在段内进行;
+ * 不同段上的写操作互不阻塞
+ * 2. 链表节点的key和next不可变,value为volatile,读操作不加锁:
+ * 插入时在链表头部插入新节点,删除时复制被删节点之前的部分,保证读线程看到的链表始终完整
+ * 3. merge/compute在段锁内完成"读取-计算-写入",一次调用即可原子地更新计数,
+ * 不需要contains + get + set三次调用
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentHashTable<K, V> {
+	/**
+	 * 默认段数
+	 */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+	/**
+	 * 最大段数
+	 */
+	private static final int MAX_SEGMENTS = 1 << 16;
+	/**
+	 * 每段的初始容量
+	 */
+	private static final int MIN_SEGMENT_CAPACITY = 16;
+	/**
+	 * 装载因子,超过则段内扩容
+	 */
+	private static final float LOAD_FACTOR = 0.75f;
+
+	/**
+	 * 根据旧值和新值计算合并后的值
+	 */
+	public interface MergeFunction<V> {
+		/**
+		 * @param oldValue 旧值
+		 * @param value    传入的值
+		 * @return 合并后的值,返回null表示删除
+		 */
+		V apply(V oldValue, V value);
+	}
+
+	/**
+	 * 根据键和旧值计算新值
+	 */
+	public interface RemappingFunction<K, V> {
+		/**
+		 * @param key      键
+		 * @param oldValue 旧值,不存在时为null
+		 * @return 新值,返回null表示删除
+		 */
+		V apply(K key, V oldValue);
+	}
+
+	private final Segment<K, V>[] segments;
+	/**
+	 * 用哈希值的高几位选择段
+	 */
+	private final int segmentShift;
+	private final int segmentMask;
+
+	public ConcurrentHashTable() {
+		this(DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * @param concurrencyLevel 预计同时写入的线程数,段数为不小于它的2的幂
+	 */
+	public ConcurrentHashTable(int concurrencyLevel) {
+		if (concurrencyLevel <= 0) {
+			throw new IllegalArgumentException("concurrencyLevel must be positive");
+		}
+		int n = 1;
+		int shift = 0;
+		while (n < concurrencyLevel && n < MAX_SEGMENTS) {
+			n <<= 1;
+			shift++;
+		}
+		segmentShift = 32 - shift;
+		segmentMask = n - 1;
+		segments = newSegmentArray(n);
+		for (int i = 0; i < n; i++) {
+			segments[i] = new Segment<>();
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <K, V> Segment<K, V>[] newSegmentArray(int length) {
+		return (Segment<K, V>[]) new Segment[length];
+	}
+
+	/**
+	 * 计算hash值,乘以黄金分割常数使高位和低位都分布均匀
+	 */
+	private static int hash(Object key) {
+		if (key == null) {
+			throw new IllegalArgumentException("key can't be null");
+		}
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private Segment<K, V> segmentFor(int h) {
+		// 只有一段时segmentShift为32,移位会被取模为0,由segmentMask保证结果为0
+		return segments[(h >>> segmentShift) & segmentMask];
+	}
+
+	/**
+	 * @return 哈希表中元素的个数(并发修改时为近似值)
+	 */
+	public int getSize() {
+		long sum = 0;
+		for (Segment<K, V> segment : segments) {
+			sum += segment.count;
+		}
+		return (int) Math.min(sum, Integer.MAX_VALUE);
+	}
+
+	public void add(K key, V value) {
+		if (value == null) {
+			throw new IllegalArgumentException("value can't be null");
+		}
+		int h = hash(key);
+		segmentFor(h).put(h, key, value);
+	}
+
+	public V remove(K key) {
+		int h = hash(key);
+		return segmentFor(h).remove(h, key);
+	}
+
+	public void set(K key, V value) {
+		if (value == null) {
+			throw new IllegalArgumentException("value can't be null");
+		}
+		int h = hash(key);
+		if (!segmentFor(h).replace(h, key, value)) {
+			throw new IllegalArgumentException(key + "does't exist");
+		}
+	}
+
+	public boolean contains(K key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * 不加锁的读操作
+	 */
+	public V get(K key) {
+		int h = hash(key);
+		return segmentFor(h).get(h, key);
+	}
+
+	/**
+	 * 原子地合并key对应的值
+	 * -- key不存在时写入value,否则写入function(旧值, value),结果为null时删除key
+	 * -- 例: 计数加一 table.merge(word, 1, sum)
+	 *
+	 * @param key      键
+	 * @param value    值
+	 * @param function 合并函数,在段锁内执行,不应耗时过长或访问本哈希表
+	 * @return 合并后的值
+	 */
+	public V merge(K key, V value, final MergeFunction<V> function) {
+		if (value == null) {
+			throw new IllegalArgumentException("value can't be null");
+		}
+		final V given = value;
+		return compute(key, new RemappingFunction<K, V>() {
+			@Override
+			public V apply(K k, V oldValue) {
+				return oldValue == null ? given : function.apply(oldValue, given);
+			}
+		});
+	}
+
+	/**
+	 * 原子地重新计算key对应的值,结果为null时删除key
+	 *
+	 * @param key      键
+	 * @param function 计算函数,在段锁内执行,不应耗时过长或访问本哈希表
+	 * @return 新值
+	 */
+	public V compute(K key, RemappingFunction<K, V> function) {
+		int h = hash(key);
+		return segmentFor(h).compute(h, key, function);
+	}
+
+	/**
+	 * 链表节点
+	 */
+	private static final class Node<K, V> {
+		final int hash;
+		final K key;
+		volatile V value;
+		final Node<K, V> next;
+
+		Node(int hash, K key, V value, Node<K, V> next) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+			this.next = next;
+		}
+	}
+
+	/**
+	 * 段,继承ReentrantLock作为段锁
+	 */
+	private static final class Segment<K, V> extends ReentrantLock {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 段内元素个数,只在持有锁时修改
+		 */
+		volatile int count;
+		/**
+		 * 扩容时整体替换,读线程通过volatile读拿到完整的表
+		 */
+		volatile AtomicReferenceArray<Node<K, V>> table;
+		private int threshold;
+
+		Segment() {
+			setTable(new AtomicReferenceArray<Node<K, V>>(MIN_SEGMENT_CAPACITY));
+		}
+
+		private void setTable(AtomicReferenceArray<Node<K, V>> newTable) {
+			threshold = (int) (newTable.length() * LOAD_FACTOR);
+			table = newTable;
+		}
+
+		V get(int h, Object key) {
+			AtomicReferenceArray<Node<K, V>> tab = table;
+			for (Node<K, V> e = tab.get(h & (tab.length() - 1)); e != null; e = e.next) {
+				if (e.hash == h && (e.key == key || e.key.equals(key))) {
+					return e.value;
+				}
+			}
+			return null;
+		}
+
+		private Node<K, V> find(AtomicReferenceArray<Node<K, V>> tab, int index, int h, Object key) {
+			for (Node<K, V> e = tab.get(index); e != null; e = e.next) {
+				if (e.hash == h && (e.key == key || e.key.equals(key))) {
+					return e;
+				}
+			}
+			return null;
+		}
+
+		void put(int h, K key, V value) {
+			lock();
+			try {
+				AtomicReferenceArray<Node<K, V>> tab = table;
+				int index = h & (tab.length() - 1);
+				Node<K, V> e = find(tab, index, h, key);
+				if (e != null) {
+					e.value = value;
+				} else {
+					insert(tab, index, h, key, value);
+				}
+			} finally {
+				unlock();
+			}
+		}
+
+		boolean replace(int h, K key, V value) {
+			lock();
+			try {
+				AtomicReferenceArray<Node<K, V>> tab = table;
+				Node<K, V> e = find(tab, h & (tab.length() - 1), h, key);
+				if (e == null) {
+					return false;
+				}
+				e.value = value;
+				return true;
+			} finally {
+				unlock();
+			}
+		}
+
+		V remove(int h, Object key) {
+			lock();
+			try {
+				AtomicReferenceArray<Node<K, V>> tab = table;
+				int index = h & (tab.length() - 1);
+				Node<K, V> e = find(tab, index, h, key);
+				if (e == null) {
+					return null;
+				}
+				V ret = e.value;
+				unlink(tab, index, e);
+				return ret;
+			} finally {
+				unlock();
+			}
+		}
+
+		V compute(int h, K key, RemappingFunction<K, V> function) {
+			lock();
+			try {
+				AtomicReferenceArray<Node<K, V>> tab = table;
+				int index = h & (tab.length() - 1);
+				Node<K, V> e = find(tab, index, h, key);
+				V newValue = function.apply(key, e == null ? null : e.value);
+				if (e != null) {
+					if (newValue == null) {
+						unlink(tab, index, e);
+					} else {
+						e.value = newValue;
+					}
+				} else if (newValue != null) {
+					insert(tab, index, h, key, newValue);
+				}
+				return newValue;
+			} finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * 在链表头部插入新节点,需持有锁
+		 */
+		private void insert(AtomicReferenceArray<Node<K, V>> tab, int index, int h, K key, V value) {
+			tab.set(index, new Node<>(h, key, value, tab.get(index)));
+			int c = count + 1;
+			count = c;
+			if (c > threshold) {
+				rehash(tab);
+			}
+		}
+
+		/**
+		 * 删除节点e,复制e之前的节点,e之后的节点保持不变,需持有锁
+		 */
+		private void unlink(AtomicReferenceArray<Node<K, V>> tab, int index, Node<K, V> e) {
+			Node<K, V> first = tab.get(index);
+			Node<K, V> newFirst = e.next;
+			for (Node<K, V> p = first; p != e; p = p.next) {
+				newFirst = new Node<>(p.hash, p.key, p.value, newFirst);
+			}
+			tab.set(index, newFirst);
+			count = count - 1;
+		}
+
+		/**
+		 * 段内扩容为两倍,需持有锁
+		 * -- 复制节点到新表,旧表保持不变,正在读旧表的线程不受影响
+		 */
+		private void rehash(AtomicReferenceArray<Node<K, V>> oldTab) {
+			int oldCapacity = oldTab.length();
+			if (oldCapacity >= 1 << 30) {
+				return;
+			}
+			int newCapacity = oldCapacity << 1;
+			int mask = newCapacity - 1;
+			AtomicReferenceArray<Node<K, V>> newTab = new AtomicReferenceArray<>(newCapacity);
+			for (int i = 0; i < oldCapacity; i++) {
+				for (Node<K, V> e = oldTab.get(i); e != null; e = e.next) {
+					int index = e.hash & mask;
+					newTab.set(index, new Node<>(e.hash, e.key, e.value, newTab.get(index)));
+				}
+			}
+			setTable(newTab);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.holelin.tree;
+
+import com.holelin.util.FileOperation;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * ClassName: ConcurrentHashTableTest
+ * 线程安全哈希表测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentHashTableTest {
+	private static final ConcurrentHashTable.MergeFunction<Integer> SUM = new ConcurrentHashTable.MergeFunction<Integer>() {
+		@Override
+		public Integer apply(Integer oldValue, Integer value) {
+			return oldValue + value;
+		}
+	};
+
+	public static void main(String[] args) throws InterruptedException {
+		// 单线程随机操作,与java.util.HashMap比对
+		ConcurrentHashTable<Integer, Integer> table = new ConcurrentHashTable<>();
+		java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+		Random random = new Random();
+		for (int i = 0; i < 1000000; i++) {
+			Integer key = random.nextInt(50000);
+			switch (random.nextInt(4)) {
+				case 0:
+					table.add(key, i);
+					expected.put(key, i);
+					break;
+				case 1:
+					if (!equals(table.remove(key), expected.remove(key))) {
+						throw new IllegalArgumentException("Error");
+					}
+					break;
+				case 2:
+					Integer merged = table.merge(key, 1, SUM);
+					Integer old = expected.get(key);
+					expected.put(key, old == null ? 1 : old + 1);
+					if (!merged.equals(expected.get(key))) {
+						throw new IllegalArgumentException("Error");
+					}
+					break;
+				default:
+					if (!equals(table.get(key), expected.get(key)) || table.contains(key) != expected.containsKey(key)) {
+						throw new IllegalArgumentException("Error");
+					}
+			}
+			if (table.getSize() != expected.size()) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		System.out.println("Test ConcurrentHashTable completed.");
+
+		String path = "src/res/Pride-and-prejudice.txt";
+		ArrayList<String> words = new ArrayList<>();
+		if (!FileOperation.readFile(path, words)) {
+			return;
+		}
+		// 单线程统计的结果作为正确答案
+		HashTable<String, Integer> counts = new HashTable<>();
+		for (String word : words) {
+			if (counts.contains(word)) {
+				counts.set(word, counts.get(word) + 1);
+			} else {
+				counts.add(word, 1);
+			}
+		}
+		int rounds = 20;
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= Math.max(maxThreads, 4); threads <<= 1) {
+			final Object lock = new Object();
+			final HashTable<String, Integer> locked = new HashTable<>();
+			double time1 = wordCount(words, threads, rounds, new Counter() {
+				@Override
+				public void count(String word) {
+					synchronized (lock) {
+						if (locked.contains(word)) {
+							locked.set(word, locked.get(word) + 1);
+						} else {
+							locked.add(word, 1);
+						}
+					}
+				}
+			});
+			final ConcurrentHashTable<String, Integer> concurrent = new ConcurrentHashTable<>();
+			double time2 = wordCount(words, threads, rounds, new Counter() {
+				@Override
+				public void count(String word) {
+					concurrent.merge(word, 1, SUM);
+				}
+			});
+			for (String word : words) {
+				if (concurrent.get(word) != counts.get(word) * rounds) {
+					throw new IllegalArgumentException("Error");
+				}
+			}
+			System.out.println(threads + " threads -- synchronized HashTable: " + time1 + " s, ConcurrentHashTable: " + time2 + " s");
+		}
+	}
+
+	private interface Counter {
+		void count(String word);
+	}
+
+	/**
+	 * 每个线程统计rounds / threads遍单词
+	 */
+	private static double wordCount(final ArrayList<String> words, int threads, final int rounds,
+									final Counter counter) throws InterruptedException {
+		final CountDownLatch start = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			final int id = t;
+			final int total = threads;
+			new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for (int r = id; r < rounds; r += total) {
+							for (String word : words) {
+								counter.count(word);
+							}
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				}
+			}).start();
+		}
+		long startTime = System.nanoTime();
+		start.countDown();
+		done.await();
+		long endTime = System.nanoTime();
+		return (endTime - startTime) / 1000000000.0;
+	}
+
+	private static boolean equals(Integer a, Integer b) {
+		return a == null ? b == null : a.equals(b);
+	}
+}
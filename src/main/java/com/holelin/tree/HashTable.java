@@ -1,10 +1,17 @@
 package com.holelin.tree;
 
+import java.util.Map;
 import java.util.TreeMap;
 
 /**
  * ClassName: HashTable
  * 哈希表
+ * <p>
+ * 渐进式扩容模式(incrementalResize = true):
+ * 扩容/缩容时不一次性迁移所有元素,而是同时保留新旧两张表,
+ * 之后每次add/get/remove等操作顺带迁移少量地址,直至旧表迁移完毕(参考Redis的dict).
+ * 迁移期间新元素只写入新表,查询时先查新表再查旧表.
+ * 该模式下地址上的TreeMap按需创建,避免扩容时一次性创建大量TreeMap.
  *
  * @author HoleLin
  * @version 1.0
@@ -33,12 +40,44 @@ public class HashTable<K, V> {
 	 */
 	private int capacityIndex = 0;
 
+	/**
+	 * 每次操作最多迁移的非空地址个数
+	 */
+	private static final int REHASH_STEP = 1;
+	/**
+	 * 每次操作最多跳过的空地址个数,避免一次操作访问过多空地址
+	 */
+	private static final int REHASH_EMPTY_VISITS = REHASH_STEP * 10;
+	/**
+	 * 是否使用渐进式扩容
+	 */
+	private final boolean incrementalResize;
+	/**
+	 * 迁移中的旧表,未在迁移时为null
+	 */
+	private TreeMap<K, V>[] oldHashtable;
+	private int oldM;
+	/**
+	 * 旧表中下一个待迁移的地址
+	 */
+	private int rehashIndex;
+
 	public HashTable() {
+		this(false);
+	}
+
+	/**
+	 * @param incrementalResize 是否使用渐进式扩容
+	 */
+	public HashTable(boolean incrementalResize) {
+		this.incrementalResize = incrementalResize;
 		this.M = capacity[capacityIndex];
 		this.size = 0;
 		hashtable = new TreeMap[M];
-		for (int i = 0; i < hashtable.length; i++) {
-			hashtable[i] = new TreeMap<>();
+		if (!incrementalResize) {
+			for (int i = 0; i < hashtable.length; i++) {
+				hashtable[i] = new TreeMap<>();
+			}
 		}
 	}
 
@@ -49,8 +88,15 @@ public class HashTable<K, V> {
 	 * @return 计算后key的hash值
 	 */
 	private int hash(K key) {
+		return hash(key, M);
+	}
+
+	/**
+	 * 计算key在容量为m的表中的地址
+	 */
+	private static int hash(Object key, int m) {
 		//  & 0x7fffffff -- 消除负号
-		return (key.hashCode() & 0x7fffffff) % M;
+		return (key.hashCode() & 0x7fffffff) % m;
 	}
 
 	/**
@@ -61,6 +107,10 @@ public class HashTable<K, V> {
 	}
 
 	public void add(K key, V value) {
+		if (incrementalResize) {
+			addIncremental(key, value);
+			return;
+		}
 		TreeMap<K, V> map = hashtable[hash(key)];
 		if (map.containsKey(key)) {
 			map.put(key, value);
@@ -83,14 +133,17 @@ public class HashTable<K, V> {
 		this.M = newM;
 		for (int i = 0; i < oldM; i++) {
 			TreeMap<K, V> map = hashtable[i];
-			for (K key : map.keySet()) {
-				newHashTable[hash(key)].put(key, map.get(key));
+			for (Map.Entry<K, V> entry : map.entrySet()) {
+				newHashTable[hash(entry.getKey())].put(entry.getKey(), entry.getValue());
 			}
 		}
 		this.hashtable = newHashTable;
 	}
 
 	public V remove(K key) {
+		if (incrementalResize) {
+			return removeIncremental(key);
+		}
 		TreeMap<K, V> map = hashtable[hash(key)];
 		V ret = null;
 		if (map.containsKey(key)) {
@@ -105,20 +158,139 @@ public class HashTable<K, V> {
 	}
 
 	public void set(K key, V value) {
-		TreeMap<K, V> map = hashtable[hash(key)];
-		if (!map.containsKey(key)) {
+		TreeMap<K, V> map = incrementalResize ? findBucket(key) : hashtable[hash(key)];
+		if (map == null || !map.containsKey(key)) {
 			throw new IllegalArgumentException(key + "does't exist");
 		}
 		map.put(key, value);
 	}
 
 	public boolean contains(K key) {
+		if (incrementalResize) {
+			return findBucket(key) != null;
+		}
 		return hashtable[hash(key)].containsKey(key);
 	}
 
 	public V get(K key) {
+		if (incrementalResize) {
+			TreeMap<K, V> map = findBucket(key);
+			return map == null ? null : map.get(key);
+		}
 		return hashtable[hash(key)].get(key);
 	}
 
+	// ------------------------------ 渐进式扩容 ------------------------------
+
+	/**
+	 * @return 是否正在迁移
+	 */
+	public boolean isRehashing() {
+		return oldHashtable != null;
+	}
+
+	/**
+	 * 查找包含key的地址,先查新表,迁移期间再查旧表
+	 *
+	 * @param key 键
+	 * @return 包含key的TreeMap,不存在返回null
+	 */
+	private TreeMap<K, V> findBucket(K key) {
+		rehashStep();
+		TreeMap<K, V> map = hashtable[hash(key)];
+		if (map != null && map.containsKey(key)) {
+			return map;
+		}
+		if (oldHashtable != null) {
+			map = oldHashtable[hash(key, oldM)];
+			if (map != null && map.containsKey(key)) {
+				return map;
+			}
+		}
+		return null;
+	}
+
+	private void addIncremental(K key, V value) {
+		TreeMap<K, V> map = findBucket(key);
+		if (map != null) {
+			map.put(key, value);
+			return;
+		}
+		// 新元素只写入新表
+		int index = hash(key);
+		map = hashtable[index];
+		if (map == null) {
+			map = new TreeMap<>();
+			hashtable[index] = map;
+		}
+		map.put(key, value);
+		size++;
+		// 迁移完成之前不开始下一次扩容
+		if (oldHashtable == null && size >= upperTol * M && capacityIndex + 1 < capacity.length) {
+			capacityIndex++;
+			startResize(capacity[capacityIndex]);
+		}
+	}
+
+	private V removeIncremental(K key) {
+		TreeMap<K, V> map = findBucket(key);
+		V ret = null;
+		if (map != null) {
+			ret = map.remove(key);
+			size--;
+		}
+		if (oldHashtable == null && size < lowerTol * M && capacityIndex - 1 >= 0) {
+			capacityIndex--;
+			startResize(capacity[capacityIndex]);
+		}
+		return ret;
+	}
+
+	/**
+	 * 开始渐进式扩容,只分配新表,不迁移元素
+	 *
+	 * @param newM 新的容量
+	 */
+	private void startResize(int newM) {
+		oldHashtable = hashtable;
+		oldM = M;
+		rehashIndex = 0;
+		hashtable = new TreeMap[newM];
+		M = newM;
+	}
 
+	/**
+	 * 迁移旧表中最多REHASH_STEP个非空地址
+	 */
+	private void rehashStep() {
+		if (oldHashtable == null) {
+			return;
+		}
+		int moved = 0;
+		int emptyVisits = 0;
+		while (moved < REHASH_STEP && rehashIndex < oldM) {
+			TreeMap<K, V> map = oldHashtable[rehashIndex];
+			oldHashtable[rehashIndex] = null;
+			rehashIndex++;
+			if (map == null || map.isEmpty()) {
+				if (++emptyVisits >= REHASH_EMPTY_VISITS) {
+					break;
+				}
+				continue;
+			}
+			for (Map.Entry<K, V> entry : map.entrySet()) {
+				int index = hash(entry.getKey());
+				TreeMap<K, V> target = hashtable[index];
+				if (target == null) {
+					target = new TreeMap<>();
+					hashtable[index] = target;
+				}
+				target.put(entry.getKey(), entry.getValue());
+			}
+			moved++;
+		}
+		if (rehashIndex >= oldM) {
+			oldHashtable = null;
+		}
+	}
 }
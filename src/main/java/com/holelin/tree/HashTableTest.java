@@ -0,0 +1,150 @@
+package com.holelin.tree;
+
+import com.holelin.util.FileOperation;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * ClassName: HashTableTest
+ * 哈希表测试类
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class HashTableTest {
+	public static void main(String[] args) {
+		// 随机操作,与java.util.HashMap比对
+		OpenHashTable<Integer, Integer> table = new OpenHashTable<>();
+		java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+		Random random = new Random();
+		for (int i = 0; i < 2000000; i++) {
+			// 键的范围随时间变化,使哈希表反复扩容和缩容
+			int bound = (i / 200000 % 2 == 0) ? 100000 : 100;
+			Integer key = random.nextInt(bound);
+			switch (random.nextInt(3)) {
+				case 0:
+					table.add(key, i);
+					expected.put(key, i);
+					break;
+				case 1:
+					if (!equals(table.remove(key), expected.remove(key))) {
+						throw new IllegalArgumentException("Error");
+					}
+					break;
+				default:
+					if (!equals(table.get(key), expected.get(key)) || table.contains(key) != expected.containsKey(key)) {
+						throw new IllegalArgumentException("Error");
+					}
+			}
+			if (table.getSize() != expected.size()) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		// 超过上限的容量直接拒绝,而不是在取整为2的幂时溢出
+		try {
+			new OpenHashTable<Integer, Integer>(Integer.MAX_VALUE);
+			throw new IllegalStateException("Error");
+		} catch (IllegalArgumentException ignored) {
+		}
+		System.out.println("Test OpenHashTable completed.");
+
+		// 渐进式扩容模式,同样与java.util.HashMap比对
+		HashTable<Integer, Integer> incremental = new HashTable<>(true);
+		expected.clear();
+		for (int i = 0; i < 2000000; i++) {
+			int bound = (i / 200000 % 2 == 0) ? 100000 : 100;
+			Integer key = random.nextInt(bound);
+			switch (random.nextInt(4)) {
+				case 0:
+					incremental.add(key, i);
+					expected.put(key, i);
+					break;
+				case 1:
+					if (!equals(incremental.remove(key), expected.remove(key))) {
+						throw new IllegalArgumentException("Error");
+					}
+					break;
+				case 2:
+					if (expected.containsKey(key)) {
+						incremental.set(key, -i);
+						expected.put(key, -i);
+					}
+					break;
+				default:
+					if (!equals(incremental.get(key), expected.get(key)) || incremental.contains(key) != expected.containsKey(key)) {
+						throw new IllegalArgumentException("Error");
+					}
+			}
+			if (incremental.getSize() != expected.size()) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		System.out.println("Test incremental HashTable completed.");
+
+		// 单次add的最大停顿,建议固定堆大小运行(如-Xms3g -Xmx3g),避免堆扩张引起的GC停顿干扰结果
+		int n = 5000000;
+		System.out.println("HashTable max add pause: " + maxAddPause(new HashTable<Integer, Integer>(), n) + " ms");
+		System.out.println("Incremental HashTable max add pause: " + maxAddPause(new HashTable<Integer, Integer>(true), n) + " ms");
+
+		String path = "src/res/Pride-and-prejudice.txt";
+		ArrayList<String> words = new ArrayList<>();
+		if (FileOperation.readFile(path, words)) {
+			System.out.println("Total words: " + words.size());
+			for (int round = 0; round < 3; round++) {
+				long startTime = System.nanoTime();
+				HashTable<String, Integer> hashTable = new HashTable<>();
+				for (String word : words) {
+					if (hashTable.contains(word)) {
+						hashTable.set(word, hashTable.get(word) + 1);
+					} else {
+						hashTable.add(word, 1);
+					}
+				}
+				long endTime = System.nanoTime();
+				System.out.println("HashTable: " + (endTime - startTime) / 1000000000.0 + " s");
+
+				startTime = System.nanoTime();
+				OpenHashTable<String, Integer> openHashTable = new OpenHashTable<>();
+				for (String word : words) {
+					if (openHashTable.contains(word)) {
+						openHashTable.set(word, openHashTable.get(word) + 1);
+					} else {
+						openHashTable.add(word, 1);
+					}
+				}
+				endTime = System.nanoTime();
+				System.out.println("OpenHashTable: " + (endTime - startTime) / 1000000000.0 + " s");
+
+				for (String word : words) {
+					if (!hashTable.get(word).equals(openHashTable.get(word))) {
+						throw new IllegalArgumentException("Error");
+					}
+				}
+				System.out.println("Total different words: " + openHashTable.getSize());
+			}
+		}
+	}
+
+	/**
+	 * 连续添加n个元素,返回单次add的最大耗时
+	 */
+	private static double maxAddPause(HashTable<Integer, Integer> hashTable, int n) {
+		long max = 0;
+		for (int i = 0; i < n; i++) {
+			long startTime = System.nanoTime();
+			hashTable.add(i, i);
+			long time = System.nanoTime() - startTime;
+			if (time > max) {
+				max = time;
+			}
+		}
+		return max / 1000000.0;
+	}
+
+	private static boolean equals(Integer a, Integer b) {
+		return a == null ? b == null : a.equals(b);
+	}
+}
@@ -0,0 +1,236 @@
+package com.holelin.tree;
+
+/**
+ * ClassName: OpenHashTable
+ * 开放地址法哈希表 -- Robin Hood线性探测
+ * <p>
+ * 与{@link HashTable}接口相同,区别:
+ * 1. 键、值、哈希值分别存放在三个平行数组中,不再为每个地址创建TreeMap,键不需要实现Comparable
+ * 2. 容量为2的幂,用位运算取模;hashCode经过混淆,避免低位相同的哈希值聚集
+ * 3. 插入时,若当前元素距理想位置的距离(探测距离)大于已有元素,则抢占该位置,已有元素继续向后探测,
+ * 使所有元素的探测距离趋于平均
+ * 4. 删除时将后续元素依次前移(backward shift),不使用墓碑标记
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class OpenHashTable<K, V> {
+	/**
+	 * 初始容量
+	 */
+	private static final int MIN_CAPACITY = 16;
+	/**
+	 * 数组长度的上限,再翻倍会溢出
+	 */
+	private static final int MAX_CAPACITY = 1 << 30;
+	/**
+	 * 装载因子的上界,超过则扩容
+	 */
+	private static final float MAX_LOAD_FACTOR = 0.75f;
+	/**
+	 * 装载因子的下界,低于则缩容
+	 */
+	private static final float MIN_LOAD_FACTOR = 0.125f;
+
+	private K[] keys;
+	private V[] values;
+	/**
+	 * 混淆后的哈希值,用于快速比较和计算探测距离
+	 */
+	private int[] hashes;
+	private int mask;
+	private int size;
+	/**
+	 * 元素个数超过该值时扩容
+	 */
+	private int threshold;
+
+	public OpenHashTable() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param capacity 初始容量,会向上取整为2的幂
+	 */
+	public OpenHashTable(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity can't be negative");
+		}
+		if (capacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("capacity is out of bound");
+		}
+		allocate(tableSizeFor(Math.max(capacity, MIN_CAPACITY)));
+	}
+
+	/**
+	 * 返回不小于n的最小的2的幂
+	 */
+	private static int tableSizeFor(int n) {
+		int highest = Integer.highestOneBit(n);
+		return highest == n ? n : highest << 1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void allocate(int capacity) {
+		keys = (K[]) new Object[capacity];
+		values = (V[]) new Object[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+		threshold = (int) (capacity * MAX_LOAD_FACTOR);
+	}
+
+	/**
+	 * 计算hash值
+	 * -- 乘以黄金分割常数后将高位异或到低位,使取低位作为索引时分布均匀
+	 *
+	 * @param key 传入的key
+	 * @return 混淆后的hash值
+	 */
+	private static int hash(Object key) {
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * 位置index上的元素距其理想位置的距离
+	 */
+	private int probeDistance(int index) {
+		return (index - (hashes[index] & mask)) & mask;
+	}
+
+	/**
+	 * @return 哈希表中元素的个数
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * 查找key所在的位置
+	 *
+	 * @param key 键
+	 * @return key所在的位置,不存在返回-1
+	 */
+	private int indexOf(K key) {
+		if (key == null) {
+			throw new IllegalArgumentException("key can't be null");
+		}
+		int h = hash(key);
+		int index = h & mask;
+		for (int dist = 0; ; dist++) {
+			K k = keys[index];
+			// 遇到空位置,或遇到探测距离比当前更小的元素(若key存在,必然在它之前),说明key不存在
+			if (k == null || probeDistance(index) < dist) {
+				return -1;
+			}
+			if (hashes[index] == h && (k == key || k.equals(key))) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	public void add(K key, V value) {
+		int index = indexOf(key);
+		if (index >= 0) {
+			values[index] = value;
+			return;
+		}
+		if (size + 1 > threshold) {
+			if (mask + 1 == MAX_CAPACITY) {
+				throw new IllegalArgumentException("hashtable is full");
+			}
+			resize((mask + 1) << 1);
+		}
+		insert(key, value, hash(key));
+		size++;
+	}
+
+	/**
+	 * 插入一个不存在的键
+	 */
+	private void insert(K key, V value, int h) {
+		K[] keys = this.keys;
+		int index = h & mask;
+		int dist = 0;
+		while (true) {
+			if (keys[index] == null) {
+				keys[index] = key;
+				values[index] = value;
+				hashes[index] = h;
+				return;
+			}
+			int existing = probeDistance(index);
+			// 已有元素比当前元素"富有"(离理想位置更近),抢占它的位置,由它继续向后探测
+			if (existing < dist) {
+				K k = keys[index];
+				V v = values[index];
+				int eh = hashes[index];
+				keys[index] = key;
+				values[index] = value;
+				hashes[index] = h;
+				key = k;
+				value = v;
+				h = eh;
+				dist = existing;
+			}
+			index = (index + 1) & mask;
+			dist++;
+		}
+	}
+
+	private void resize(int newCapacity) {
+		K[] oldKeys = keys;
+		V[] oldValues = values;
+		int[] oldHashes = hashes;
+		allocate(newCapacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				insert(oldKeys[i], oldValues[i], oldHashes[i]);
+			}
+		}
+	}
+
+	public V remove(K key) {
+		int index = indexOf(key);
+		if (index < 0) {
+			return null;
+		}
+		V ret = values[index];
+		// 将后续探测距离大于0的元素依次前移一位,填补空出的位置
+		int next = (index + 1) & mask;
+		while (keys[next] != null && probeDistance(next) > 0) {
+			keys[index] = keys[next];
+			values[index] = values[next];
+			hashes[index] = hashes[next];
+			index = next;
+			next = (next + 1) & mask;
+		}
+		keys[index] = null;
+		values[index] = null;
+		size--;
+		if (mask + 1 > MIN_CAPACITY && size < (mask + 1) * MIN_LOAD_FACTOR) {
+			resize((mask + 1) >>> 1);
+		}
+		return ret;
+	}
+
+	public void set(K key, V value) {
+		int index = indexOf(key);
+		if (index < 0) {
+			throw new IllegalArgumentException(key + "does't exist");
+		}
+		values[index] = value;
+	}
+
+	public boolean contains(K key) {
+		return indexOf(key) >= 0;
+	}
+
+	public V get(K key) {
+		int index = indexOf(key);
+		return index < 0 ? null : values[index];
+	}
+}
@@ -0,0 +1,162 @@
+package com.holelin.unionfind;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * ClassName: ConcurrentUnionFind
+ * 线程安全的无锁并查集
+ * <p>
+ * 1. parent存放在AtomicIntegerArray中,只有两种写操作,都用CAS完成:
+ * -- 合并: 将一个根节点的parent从自己改为另一个根节点,CAS失败说明它已不是根节点,重新查找
+ * -- 路径分裂(path splitting): 查找时将经过的节点指向它的祖父节点,
+ * 只会让节点指向更高的祖先,不会改变集合划分,CAS失败直接继续
+ * 2. 没有sz/rank数组(无法与parent一起原子更新),改为按优先级合并:
+ * 每个元素的优先级是其下标经过混淆后的值,优先级低的根指向优先级高的根,
+ * 相当于随机顺序的按下标合并,树高的期望为O(log n),且不受输入顺序影响
+ * 参考: Jayanti &amp; Tarjan, A Randomized Concurrent Algorithm for Disjoint Set Union
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConcurrentUnionFind implements UnionFind {
+	private final AtomicIntegerArray parent;
+
+	public ConcurrentUnionFind(int size) {
+		parent = new AtomicIntegerArray(size);
+		for (int i = 0; i < size; i++) {
+			parent.lazySet(i, i);
+		}
+	}
+
+	/**
+	 * 查询元素p所对应的集合编号,同时进行路径分裂
+	 *
+	 * @param p 元素p
+	 * @return 元素p所对应的集合编号,并发合并时可能立即过期
+	 */
+	private int find(int p) {
+		if (p < 0 || p >= parent.length()) {
+			throw new IllegalArgumentException("p is out of bound");
+		}
+		return root(p);
+	}
+
+	/**
+	 * 不检查下标的find,供批量操作使用
+	 */
+	private int root(int p) {
+		while (true) {
+			int up = parent.get(p);
+			if (up == p) {
+				return p;
+			}
+			int grand = parent.get(up);
+			if (grand != up) {
+				// 失败说明p已被其他线程指向更高的祖先,同样可以继续
+				parent.compareAndSet(p, up, grand);
+			}
+			p = up;
+		}
+	}
+
+	/**
+	 * 合并时的优先级,由下标混淆得到
+	 * -- 乘以奇数和h ^ (h >>> 16)都是一一映射,不同元素的优先级不会相同
+	 */
+	private static int priority(int p) {
+		int h = p * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * 根节点p是否应该指向根节点q
+	 */
+	private static boolean linkBelow(int p, int q) {
+		return priority(p) < priority(q);
+	}
+
+	@Override
+	public boolean isConnected(int p, int q) {
+		while (true) {
+			int pRoot = find(p);
+			int qRoot = find(q);
+			if (pRoot == qRoot) {
+				return true;
+			}
+			// 查找qRoot期间pRoot仍是根节点,说明此刻两者不在同一集合
+			if (parent.get(pRoot) == pRoot) {
+				return false;
+			}
+			p = pRoot;
+			q = qRoot;
+		}
+	}
+
+	@Override
+	public void unionElements(int p, int q) {
+		link(find(p), find(q));
+	}
+
+	/**
+	 * 合并p和q所在的集合,p和q已检查过下标
+	 */
+	private void link(int p, int q) {
+		while (true) {
+			int pRoot = root(p);
+			int qRoot = root(q);
+			if (pRoot == qRoot) {
+				return;
+			}
+			if (linkBelow(pRoot, qRoot)) {
+				if (parent.compareAndSet(pRoot, pRoot, qRoot)) {
+					return;
+				}
+			} else if (parent.compareAndSet(qRoot, qRoot, pRoot)) {
+				return;
+			}
+			// 根节点已被其他线程合并,从新的根节点开始重试
+			p = pRoot;
+			q = qRoot;
+		}
+	}
+
+	/**
+	 * 多个线程可以同时调用,各自合并一部分边
+	 */
+	@Override
+	public void unionAll(int[] ps, int[] qs) {
+		UnionFinds.checkPairs(ps, qs, parent.length());
+		for (int i = 0; i < ps.length; i++) {
+			link(ps[i], qs[i]);
+		}
+	}
+
+	@Override
+	public void findAll(int[] in, int[] out) {
+		UnionFinds.checkFind(in, out, parent.length());
+		for (int i = 0; i < in.length; i++) {
+			out[i] = root(in[i]);
+		}
+	}
+
+	/**
+	 * 统计根节点的个数,时间复杂度O(n),并发合并时为近似值
+	 */
+	@Override
+	public int componentCount() {
+		int count = 0;
+		for (int i = 0; i < parent.length(); i++) {
+			if (parent.get(i) == i) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public int getSize() {
+		return parent.length();
+	}
+}
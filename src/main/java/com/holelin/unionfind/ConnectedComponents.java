@@ -0,0 +1,141 @@
+package com.holelin.unionfind;
+
+/**
+ * ClassName: ConnectedComponents
+ * 多线程计算无向图的连通分量
+ * <p>
+ * 1. 边数组平均分成threads段,每个线程在自己的parent数组上建立局部森林(按下标合并 + 路径减半),
+ * 线程之间不共享任何可写数据
+ * 2. 合并: 局部森林中每条非根节点到父节点的边都代表一次连通关系,
+ * 各线程并行地把自己森林中的这些边合并到同一个{@link ConcurrentUnionFind}中
+ * 3. 每个局部森林至多n - 1条边,边数远大于顶点数时,第二步比直接并发合并所有边的CAS竞争少得多
+ * 4. 局部森林占用threads * n个int,只在构建期间存在
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class ConnectedComponents {
+	private final int[] id;
+	private final int count;
+
+	/**
+	 * @param size    顶点个数
+	 * @param ps      边的一端
+	 * @param qs      边的另一端,长度与ps相同
+	 * @param threads 线程数
+	 */
+	public ConnectedComponents(int size, final int[] ps, final int[] qs, int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("threads must be positive");
+		}
+		// 先在调用线程检查参数,工作线程中不再抛出异常
+		UnionFinds.checkPairs(ps, qs, size);
+		final int n = size;
+		final int[][] forests = new int[threads][];
+		final ConcurrentUnionFind global = new ConcurrentUnionFind(n);
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			final int part = t;
+			final int from = (int) ((long) ps.length * t / threads);
+			final int to = (int) ((long) ps.length * (t + 1) / threads);
+			workers[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					forests[part] = buildForest(n, ps, qs, from, to);
+				}
+			});
+		}
+		runAll(workers);
+		for (int t = 0; t < threads; t++) {
+			final int[] forest = forests[t];
+			workers[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int v = 0; v < n; v++) {
+						if (forest[v] != v) {
+							global.unionElements(v, forest[v]);
+						}
+					}
+				}
+			});
+		}
+		runAll(workers);
+		id = new int[n];
+		int[] vertices = new int[n];
+		for (int v = 0; v < n; v++) {
+			vertices[v] = v;
+		}
+		global.findAll(vertices, id);
+		count = global.componentCount();
+	}
+
+	/**
+	 * 单线程用边ps[from, to)建立局部森林
+	 */
+	private static int[] buildForest(int n, int[] ps, int[] qs, int from, int to) {
+		int[] parent = new int[n];
+		for (int i = 0; i < n; i++) {
+			parent[i] = i;
+		}
+		for (int i = from; i < to; i++) {
+			int pRoot = root(parent, ps[i]);
+			int qRoot = root(parent, qs[i]);
+			// 下标小的根指向下标大的根,不需要额外的sz/rank数组
+			if (pRoot < qRoot) {
+				parent[pRoot] = qRoot;
+			} else if (pRoot > qRoot) {
+				parent[qRoot] = pRoot;
+			}
+		}
+		return parent;
+	}
+
+	/**
+	 * 路径减半: 查找时让每隔一个节点指向它的祖父节点
+	 */
+	private static int root(int[] parent, int p) {
+		while (p != parent[p]) {
+			parent[p] = parent[parent[p]];
+			p = parent[p];
+		}
+		return p;
+	}
+
+	private static void runAll(Thread[] workers) {
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		try {
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted", e);
+		}
+	}
+
+	/**
+	 * @param v 顶点
+	 * @return v所在连通分量的编号
+	 */
+	public int component(int v) {
+		if (v < 0 || v >= id.length) {
+			throw new IllegalArgumentException("v is out of bound");
+		}
+		return id[v];
+	}
+
+	public boolean isConnected(int p, int q) {
+		return component(p) == component(q);
+	}
+
+	/**
+	 * @return 连通分量的个数
+	 */
+	public int componentCount() {
+		return count;
+	}
+}
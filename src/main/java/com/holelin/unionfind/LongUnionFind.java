@@ -0,0 +1,117 @@
+package com.holelin.unionfind;
+
+/**
+ * ClassName: LongUnionFind
+ * 元素个数可以超过Integer.MAX_VALUE的并查集
+ * <p>
+ * 1. 与{@link QuickUnionCompact}相同,只用一个parent数组,根节点存放负的元素个数
+ * 2. Java数组的长度不能超过Integer.MAX_VALUE,parent分成若干块,每块2^20个long(8MB),
+ * 下标的高位选择块,低位为块内下标
+ * 3. 每个元素占8字节;元素个数不超过Integer.MAX_VALUE时用QuickUnionCompact,每个元素4字节
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class LongUnionFind {
+	private static final int CHUNK_SHIFT = 20;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private final long[][] chunks;
+	private final long size;
+	/**
+	 * 集合的个数
+	 */
+	private long count;
+
+	public LongUnionFind(long size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size can't be negative");
+		}
+		long chunkCount = (size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+		if (chunkCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("size is too large");
+		}
+		this.size = size;
+		this.count = size;
+		chunks = new long[(int) chunkCount][];
+		for (int i = 0; i < chunks.length; i++) {
+			long remaining = size - ((long) i << CHUNK_SHIFT);
+			long[] chunk = new long[(int) Math.min(remaining, CHUNK_SIZE)];
+			for (int j = 0; j < chunk.length; j++) {
+				chunk[j] = -1;
+			}
+			chunks[i] = chunk;
+		}
+	}
+
+	private long get(long p) {
+		return chunks[(int) (p >>> CHUNK_SHIFT)][(int) (p & CHUNK_MASK)];
+	}
+
+	private void set(long p, long value) {
+		chunks[(int) (p >>> CHUNK_SHIFT)][(int) (p & CHUNK_MASK)] = value;
+	}
+
+	/**
+	 * 查询元素p所对应的集合编号,同时进行路径减半
+	 *
+	 * @param p 元素p
+	 * @return 元素p所对应的集合编号
+	 */
+	private long find(long p) {
+		if (p < 0 || p >= size) {
+			throw new IllegalArgumentException("p is out of bound");
+		}
+		long up;
+		while ((up = get(p)) >= 0) {
+			long grand = get(up);
+			if (grand < 0) {
+				return up;
+			}
+			set(p, grand);
+			p = grand;
+		}
+		return p;
+	}
+
+	public boolean isConnected(long p, long q) {
+		return find(p) == find(q);
+	}
+
+	public void unionElements(long p, long q) {
+		long pRoot = find(p);
+		long qRoot = find(q);
+		if (qRoot == pRoot) {
+			return;
+		}
+		count--;
+		long pSize = get(pRoot);
+		long qSize = get(qRoot);
+		// 根节点上存放的是负的元素个数,越小集合越大
+		if (pSize > qSize) {
+			set(qRoot, qSize + pSize);
+			set(pRoot, qRoot);
+		} else {
+			set(pRoot, pSize + qSize);
+			set(qRoot, pRoot);
+		}
+	}
+
+	/**
+	 * @return 元素p所在集合的元素个数
+	 */
+	public long componentSize(long p) {
+		return -get(find(p));
+	}
+
+	public long componentCount() {
+		return count;
+	}
+
+	public long getSize() {
+		return size;
+	}
+}
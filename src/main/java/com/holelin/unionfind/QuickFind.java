@@ -11,8 +11,13 @@ package com.holelin.unionfind;
 
 public class QuickFind implements UnionFind {
 	private int[] id;
+	/**
+	 * 集合的个数
+	 */
+	private int count;
 
 	public QuickFind(int size) {
+		count = size;
 		id = new int[size];
 		// 设置每个元素的集合编号
 		for (int i = 0; i < size; i++) {
@@ -46,12 +51,17 @@ public class QuickFind implements UnionFind {
 	 */
 	@Override
 	public void unionElements(int p, int q) {
-		int pID = find(p);
-		int qID = find(q);
+		link(find(p), find(q));
+	}
 
+	/**
+	 * 将集合pID中的元素全部改为集合qID
+	 */
+	private void link(int pID, int qID) {
 		if (pID == qID) {
 			return;
 		}
+		count--;
 		for (int i = 0; i < id.length; i++) {
 			if (id[i] == pID) {
 				id[i] = qID;
@@ -59,6 +69,27 @@ public class QuickFind implements UnionFind {
 		}
 	}
 
+	@Override
+	public void unionAll(int[] ps, int[] qs) {
+		UnionFinds.checkPairs(ps, qs, id.length);
+		for (int i = 0; i < ps.length; i++) {
+			link(id[ps[i]], id[qs[i]]);
+		}
+	}
+
+	@Override
+	public void findAll(int[] in, int[] out) {
+		UnionFinds.checkFind(in, out, id.length);
+		for (int i = 0; i < in.length; i++) {
+			out[i] = id[in[i]];
+		}
+	}
+
+	@Override
+	public int componentCount() {
+		return count;
+	}
+
 	@Override
 	public int getSize() {
 		return id.length;
@@ -10,12 +10,17 @@ package com.holelin.unionfind;
 
 public class QuickUnionByPathCompression implements UnionFind {
 	private int[] parent;
+	/**
+	 * 集合的个数
+	 */
+	private int count;
 	/**
 	 * rank[i] 表示以i为根的集合所表示的树的层数
 	 */
 	private int[] rank;
 
 	public QuickUnionByPathCompression(int size) {
+		count = size;
 		parent = new int[size];
 		rank = new int[size];
 		for (int i = 0; i < size; i++) {
@@ -35,6 +40,13 @@ public class QuickUnionByPathCompression implements UnionFind {
 		if (p < 0 || p >= parent.length) {
 			throw new IllegalArgumentException("p is out of bound");
 		}
+		return root(p);
+	}
+
+	/**
+	 * 不检查下标的find,供批量操作使用
+	 */
+	private int root(int p) {
 		// p == parent[p] -- p指向自己,此时p为根节点
 		while (p != parent[p]) {
 			parent[p]=parent[parent[p]];
@@ -50,11 +62,17 @@ public class QuickUnionByPathCompression implements UnionFind {
 
 	@Override
 	public void unionElements(int p, int q) {
-		int pRoot = find(p);
-		int qRoot = find(q);
+		link(find(p), find(q));
+	}
+
+	/**
+	 * 合并两个根节点所在的集合
+	 */
+	private void link(int pRoot, int qRoot) {
 		if (qRoot == pRoot) {
 			return;
 		}
+		count--;
 		// 将rank低的集合指向rank高的集合
 		if (rank[pRoot] < rank[qRoot]) {
 			parent[pRoot] = qRoot;
@@ -65,7 +83,27 @@ public class QuickUnionByPathCompression implements UnionFind {
 			rank[pRoot] += 1;
 		}
 
+	}
+
+	@Override
+	public void unionAll(int[] ps, int[] qs) {
+		UnionFinds.checkPairs(ps, qs, parent.length);
+		for (int i = 0; i < ps.length; i++) {
+			link(root(ps[i]), root(qs[i]));
+		}
+	}
 
+	@Override
+	public void findAll(int[] in, int[] out) {
+		UnionFinds.checkFind(in, out, parent.length);
+		for (int i = 0; i < in.length; i++) {
+			out[i] = root(in[i]);
+		}
+	}
+
+	@Override
+	public int componentCount() {
+		return count;
 	}
 
 	@Override
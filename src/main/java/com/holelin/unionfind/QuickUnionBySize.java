@@ -10,12 +10,17 @@ package com.holelin.unionfind;
 
 public class QuickUnionBySize implements UnionFind {
 	private int[] parent;
+	/**
+	 * 集合的个数
+	 */
+	private int count;
 	/**
 	 * sz[i] 表示以i为根的集合中元素个数
 	 */
 	private int[] sz;
 
 	public QuickUnionBySize(int size) {
+		count = size;
 		parent = new int[size];
 		sz = new int[size];
 		for (int i = 0; i < size; i++) {
@@ -35,6 +40,13 @@ public class QuickUnionBySize implements UnionFind {
 		if (p < 0 || p >= parent.length) {
 			throw new IllegalArgumentException("p is out of bound");
 		}
+		return root(p);
+	}
+
+	/**
+	 * 不检查下标的find,供批量操作使用
+	 */
+	private int root(int p) {
 		// p == parent[p] -- p指向自己,此时p为根节点
 		while (p != parent[p]) {
 			p = parent[p];
@@ -49,11 +61,17 @@ public class QuickUnionBySize implements UnionFind {
 
 	@Override
 	public void unionElements(int p, int q) {
-		int pRoot = find(p);
-		int qRoot = find(q);
+		link(find(p), find(q));
+	}
+
+	/**
+	 * 合并两个根节点所在的集合
+	 */
+	private void link(int pRoot, int qRoot) {
 		if (qRoot == pRoot) {
 			return;
 		}
+		count--;
 		// 将元素个数较少的集合指向元素个数多的集合
 		if (sz[pRoot] < sz[qRoot]) {
 			// pRoot的根节点指向qRoot
@@ -66,7 +84,27 @@ public class QuickUnionBySize implements UnionFind {
 			sz[pRoot] += sz[qRoot];
 		}
 
+	}
+
+	@Override
+	public void unionAll(int[] ps, int[] qs) {
+		UnionFinds.checkPairs(ps, qs, parent.length);
+		for (int i = 0; i < ps.length; i++) {
+			link(root(ps[i]), root(qs[i]));
+		}
+	}
 
+	@Override
+	public void findAll(int[] in, int[] out) {
+		UnionFinds.checkFind(in, out, parent.length);
+		for (int i = 0; i < in.length; i++) {
+			out[i] = root(in[i]);
+		}
+	}
+
+	@Override
+	public int componentCount() {
+		return count;
 	}
 
 	@Override
@@ -0,0 +1,117 @@
+package com.holelin.unionfind;
+
+/**
+ * ClassName: QuickUnionCompact
+ * 只用一个int[]的并查集 -- 基于size的合并 + 路径减半
+ * <p>
+ * parent[i] >= 0: i的父节点
+ * parent[i] < 0: i为根节点,-parent[i]为集合中元素的个数
+ * <p>
+ * 与{@link QuickUnionBySize}相比省去了sz数组,size = 10000000时占用40MB而不是80MB;
+ * 超过Integer.MAX_VALUE个元素时使用{@link LongUnionFind}
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+public class QuickUnionCompact implements UnionFind {
+	private int[] parent;
+	/**
+	 * 集合的个数
+	 */
+	private int count;
+
+	public QuickUnionCompact(int size) {
+		count = size;
+		parent = new int[size];
+		for (int i = 0; i < size; i++) {
+			parent[i] = -1;
+		}
+	}
+
+	/**
+	 * 查询元素p所对应的集合编号
+	 *
+	 * @param p 元素p
+	 * @return 元素p所对应的集合编号
+	 */
+	private int find(int p) {
+		if (p < 0 || p >= parent.length) {
+			throw new IllegalArgumentException("p is out of bound");
+		}
+		return root(p);
+	}
+
+	/**
+	 * 不检查下标的find,供批量操作使用
+	 * -- 路径减半: 让经过的节点指向它的祖父节点
+	 */
+	private int root(int p) {
+		int up;
+		while ((up = parent[p]) >= 0) {
+			int grand = parent[up];
+			if (grand >= 0) {
+				parent[p] = grand;
+				p = grand;
+			} else {
+				return up;
+			}
+		}
+		return p;
+	}
+
+	@Override
+	public boolean isConnected(int p, int q) {
+		return find(p) == find(q);
+	}
+
+	@Override
+	public void unionElements(int p, int q) {
+		link(find(p), find(q));
+	}
+
+	/**
+	 * 合并两个根节点所在的集合,元素个数较少的集合指向元素个数多的集合
+	 */
+	private void link(int pRoot, int qRoot) {
+		if (qRoot == pRoot) {
+			return;
+		}
+		count--;
+		// 根节点上存放的是负的元素个数,越小集合越大
+		if (parent[pRoot] > parent[qRoot]) {
+			parent[qRoot] += parent[pRoot];
+			parent[pRoot] = qRoot;
+		} else {
+			parent[pRoot] += parent[qRoot];
+			parent[qRoot] = pRoot;
+		}
+	}
+
+	@Override
+	public void unionAll(int[] ps, int[] qs) {
+		UnionFinds.checkPairs(ps, qs, parent.length);
+		for (int i = 0; i < ps.length; i++) {
+			link(root(ps[i]), root(qs[i]));
+		}
+	}
+
+	@Override
+	public void findAll(int[] in, int[] out) {
+		UnionFinds.checkFind(in, out, parent.length);
+		for (int i = 0; i < in.length; i++) {
+			out[i] = root(in[i]);
+		}
+	}
+
+	@Override
+	public int componentCount() {
+		return count;
+	}
+
+	@Override
+	public int getSize() {
+		return parent.length;
+	}
+}
@@ -27,4 +27,28 @@ public interface UnionFind {
 	 * @return 并查集中元素的个数
 	 */
 	int getSize();
+
+	/**
+	 * 批量合并,依次合并ps[i]和qs[i]所属的集合
+	 * -- 开始前统一检查下标,循环内不再逐个检查,也没有每次调用的接口分派
+	 *
+	 * @param ps 元素数组
+	 * @param qs 元素数组,长度与ps相同
+	 */
+	void unionAll(int[] ps, int[] qs);
+
+	/**
+	 * 批量查询,out[i]为元素in[i]所对应的集合编号
+	 *
+	 * @param in  元素数组
+	 * @param out 集合编号,长度不小于in
+	 */
+	void findAll(int[] in, int[] out);
+
+	/**
+	 * 返回集合(连通分量)的个数
+	 *
+	 * @return 集合的个数
+	 */
+	int componentCount();
 }
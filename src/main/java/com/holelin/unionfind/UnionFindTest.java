@@ -1,6 +1,7 @@
 package com.holelin.unionfind;
 
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * ClassName: UnionFindTest
@@ -11,40 +12,177 @@ import java.util.Random;
  */
 
 public class UnionFindTest {
-	private static double testUF(UnionFind uf, int m) {
-		int size = uf.getSize();
-		Random random = new Random();
+	/**
+	 * 逐个调用: ps.length次unionElements,再ps.length次isConnected
+	 *
+	 * @return 每秒处理的边数
+	 */
+	private static double testUF(UnionFind uf, int[] ps, int[] qs, int[] findPs, int[] findQs) {
 		long startTime = System.nanoTime();
-
-		for (int i = 0; i < m; i++) {
-			int a = random.nextInt(size);
-			int b = random.nextInt(size);
-			uf.unionElements(a, b);
+		for (int i = 0; i < ps.length; i++) {
+			uf.unionElements(ps[i], qs[i]);
 		}
-		for (int i = 0; i < m; i++) {
-			int a = random.nextInt(size);
-			int b = random.nextInt(size);
-			uf.isConnected(a, b);
+		for (int i = 0; i < findPs.length; i++) {
+			uf.isConnected(findPs[i], findQs[i]);
 		}
 		long endTime = System.nanoTime();
-		return (endTime - startTime) / 100000000.0;
+		return ps.length / ((endTime - startTime) / 1000000000.0);
+	}
+
+	/**
+	 * 批量调用: 一次unionAll,再两次findAll
+	 *
+	 * @return 每秒处理的边数
+	 */
+	private static double testBatchUF(UnionFind uf, int[] ps, int[] qs, int[] findPs, int[] findQs) {
+		int[] pRoots = new int[findPs.length];
+		int[] qRoots = new int[findQs.length];
+		long startTime = System.nanoTime();
+		uf.unionAll(ps, qs);
+		uf.findAll(findPs, pRoots);
+		uf.findAll(findQs, qRoots);
+		long endTime = System.nanoTime();
+		return ps.length / ((endTime - startTime) / 1000000000.0);
+	}
+
+	/**
+	 * 多线程合并: 边平均分给threads个线程,每个线程处理连续的一段
+	 */
+	private static double testConcurrentUF(final UnionFind uf, final int[] ps, final int[] qs, int threads)
+			throws InterruptedException {
+		final CountDownLatch start = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			final int from = (int) ((long) ps.length * t / threads);
+			final int to = (int) ((long) ps.length * (t + 1) / threads);
+			new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						for (int i = from; i < to; i++) {
+							uf.unionElements(ps[i], qs[i]);
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				}
+			}).start();
+		}
+		long startTime = System.nanoTime();
+		start.countDown();
+		done.await();
+		long endTime = System.nanoTime();
+		return (endTime - startTime) / 1000000000.0;
 	}
 
-	public static void main(String[] args) {
+	public static void main(String[] args) throws InterruptedException {
 		int size = 10000000;
 		int m = 10000000;
+		Random random = new Random();
+		int[] ps = new int[m];
+		int[] qs = new int[m];
+		int[] findPs = new int[m];
+		int[] findQs = new int[m];
+		for (int i = 0; i < m; i++) {
+			ps[i] = random.nextInt(size);
+			qs[i] = random.nextInt(size);
+			findPs[i] = random.nextInt(size);
+			findQs[i] = random.nextInt(size);
+		}
 //		QuickFind quickFind = new QuickFind(size);
 //		System.out.println("QuickFind: "+testUF(quickFind,m)+"s");
-		QuickUnionBySize quickUnion = new QuickUnionBySize(size);
-		System.out.println("QuickUnionBySize: "+testUF(quickUnion,m)+"s");
-		QuickUnionByRank quickUnionByRank= new QuickUnionByRank(size);
-		System.out.println("QuickUnionByRank: "+testUF(quickUnionByRank,m)+"s");
-		QuickUnionByPathCompression quickUnionByPathCompression= new QuickUnionByPathCompression(size);
-		System.out.println("QuickUnionByPathCompression: "+testUF(quickUnionByPathCompression,m)+"s");
+		String[] names = {"QuickUnionBySize", "QuickUnionByRank", "QuickUnionByPathCompression",
+				"QuickUnionByPathCompression2", "QuickUnionCompact", "ConcurrentUnionFind"};
+		for (String name : names) {
+			UnionFind perCall = newUnionFind(name, size);
+			double rate1 = testUF(perCall, ps, qs, findPs, findQs);
+			UnionFind batch = newUnionFind(name, size);
+			double rate2 = testBatchUF(batch, ps, qs, findPs, findQs);
+			if (perCall.componentCount() != batch.componentCount()) {
+				throw new IllegalArgumentException("Error");
+			}
+			System.out.println(name + " -- per call: " + (long) rate1 + " edges/s, batch: " + (long) rate2 + " edges/s");
+		}
+
+		// LongUnionFind跨越多个块,结果与QuickUnionCompact比对
+		int longSize = 3000000;
+		LongUnionFind longUnionFind = new LongUnionFind(longSize);
+		QuickUnionCompact compact = new QuickUnionCompact(longSize);
+		for (int i = 0; i < longSize; i++) {
+			int a = random.nextInt(longSize);
+			int b = random.nextInt(longSize);
+			longUnionFind.unionElements(a, b);
+			compact.unionElements(a, b);
+		}
+		for (int i = 0; i < longSize; i++) {
+			int a = random.nextInt(longSize);
+			int b = random.nextInt(longSize);
+			if (longUnionFind.isConnected(a, b) != compact.isConnected(a, b)) {
+				throw new IllegalArgumentException("Error");
+			}
+		}
+		if (longUnionFind.componentCount() != compact.componentCount()) {
+			throw new IllegalArgumentException("Error");
+		}
+		System.out.println("Test LongUnionFind completed.");
 
-		QuickUnionByPathCompression2 quickUnionByPathCompression2= new QuickUnionByPathCompression2(size);
-		System.out.println("QuickUnionByPathCompression2: "+testUF(quickUnionByPathCompression2,m)+"s");
+		// 多线程模式: 同一组随机边,线程数从1增加到32,结果与单线程的QuickUnionBySize比对
+		QuickUnionBySize expected = new QuickUnionBySize(size);
+		expected.unionAll(ps, qs);
+		for (int threads = 1; threads <= 32; threads <<= 1) {
+			ConcurrentUnionFind uf = new ConcurrentUnionFind(size);
+			double time = testConcurrentUF(uf, ps, qs, threads);
+			for (int i = 0; i < 1000000; i++) {
+				int a = random.nextInt(size);
+				int b = random.nextInt(size);
+				if (uf.isConnected(a, b) != expected.isConnected(a, b)) {
+					throw new IllegalArgumentException("Error");
+				}
+			}
+			System.out.println("ConcurrentUnionFind " + threads + " threads: " + time + "s, "
+					+ (long) (m / time) + " unions/s");
+		}
 
+		// 每个线程的局部森林占用size个int,线程数不超过8
+		for (int threads = 1; threads <= 8; threads <<= 1) {
+			long startTime = System.nanoTime();
+			ConnectedComponents cc = new ConnectedComponents(size, ps, qs, threads);
+			long endTime = System.nanoTime();
+			double time = (endTime - startTime) / 1000000000.0;
+			if (cc.componentCount() != expected.componentCount()) {
+				throw new IllegalArgumentException("Error");
+			}
+			for (int i = 0; i < 1000000; i++) {
+				int a = random.nextInt(size);
+				int b = random.nextInt(size);
+				if (cc.isConnected(a, b) != expected.isConnected(a, b)) {
+					throw new IllegalArgumentException("Error");
+				}
+			}
+			System.out.println("ConnectedComponents " + threads + " threads: " + time + "s, "
+					+ (long) (m / time) + " edges/s");
+		}
+	}
 
+	private static UnionFind newUnionFind(String name, int size) {
+		switch (name) {
+			case "QuickUnionBySize":
+				return new QuickUnionBySize(size);
+			case "QuickUnionByRank":
+				return new QuickUnionByRank(size);
+			case "QuickUnionByPathCompression":
+				return new QuickUnionByPathCompression(size);
+			case "QuickUnionByPathCompression2":
+				return new QuickUnionByPathCompression2(size);
+			case "QuickUnionCompact":
+				return new QuickUnionCompact(size);
+			case "ConcurrentUnionFind":
+				return new ConcurrentUnionFind(size);
+			default:
+				throw new IllegalArgumentException("Unknown union find: " + name);
+		}
 	}
 }
@@ -0,0 +1,44 @@
+package com.holelin.unionfind;
+
+/**
+ * ClassName: UnionFinds
+ * 并查集批量操作的参数检查
+ *
+ * @author HoleLin
+ * @version 1.0
+ * @date 2026/10/17
+ */
+
+final class UnionFinds {
+	private UnionFinds() {
+	}
+
+	/**
+	 * 检查ps与qs长度相同,且所有元素都在[0, size)之间
+	 */
+	static void checkPairs(int[] ps, int[] qs, int size) {
+		if (ps.length != qs.length) {
+			throw new IllegalArgumentException("ps and qs must have the same length");
+		}
+		checkBounds(ps, size);
+		checkBounds(qs, size);
+	}
+
+	/**
+	 * 检查in中所有元素都在[0, size)之间,且out能放下结果
+	 */
+	static void checkFind(int[] in, int[] out, int size) {
+		if (out.length < in.length) {
+			throw new IllegalArgumentException("out is shorter than in");
+		}
+		checkBounds(in, size);
+	}
+
+	static void checkBounds(int[] elements, int size) {
+		for (int p : elements) {
+			if (p < 0 || p >= size) {
+				throw new IllegalArgumentException("p is out of bound");
+			}
+		}
+	}
+}